@@ -9,6 +9,7 @@ public abstract class ChemicalTank<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
     @Nonnull
     private STACK stored;
     private int capacity;
+    private int version;
 
     /**
      * Creates a tank with a defined capacity.
@@ -61,6 +62,7 @@ public abstract class ChemicalTank<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
         STACK ret = createStack(stored, Math.min(getStored(), amount));
         if (!ret.isEmpty() && action.execute()) {
             stored.shrink(ret.getAmount());
+            version++;
         }
         return ret;
     }
@@ -82,11 +84,13 @@ public abstract class ChemicalTank<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
         if (isEmpty()) {
             if (action.execute()) {
                 stored = createStack(resource, amount);
+                version++;
             }
         } else if (!stored.isTypeEqual(resource)) {
             return 0;
         } else if (action.execute()) {
             stored.grow(amount);
+            version++;
         }
         return amount;
     }
@@ -185,6 +189,7 @@ public abstract class ChemicalTank<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
      */
     public void setStack(@Nonnull STACK stack) {
         stored = stack;
+        version++;
         //TODO: Remove this extra check? FluidTank does not have it, I believe so that it can load and not accidentally void excess
         // We first need to go through and check the places it is called to make sure none are passing more than max size relying on the fact
         // that it will cap it here
@@ -221,6 +226,15 @@ public abstract class ChemicalTank<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
         return stored.isEmpty();
     }
 
+    /**
+     * Gets a counter that changes every time the contents of this tank are changed through this tank.
+     *
+     * @return The current version of the contents of this tank.
+     */
+    public int getVersion() {
+        return version;
+    }
+
     /**
      * Writes this tank to a defined tag compound.
      *
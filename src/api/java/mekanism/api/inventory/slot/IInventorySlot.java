@@ -125,6 +125,16 @@ public interface IInventorySlot extends INBTSerializable<CompoundNBT> {
      */
     void onContentsChanged();
 
+    /**
+     * Gets a counter that changes every time the contents of this slot change, so that callers can cheaply check if the contents may be different from when they last
+     * looked at them.
+     *
+     * @return The current version of the contents of this slot.
+     *
+     * @implNote This should be increased every time {@link #onContentsChanged()} is called.
+     */
+    int getVersion();
+
     /**
      * Returns a slot for use in auto adding slots to a container.
      *
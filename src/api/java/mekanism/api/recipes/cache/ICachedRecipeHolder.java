@@ -8,29 +8,60 @@ import mekanism.api.recipes.MekanismRecipe;
 // Note: The cacheIndex is for purposes of what cache it will be stored in
 public interface ICachedRecipeHolder<RECIPE extends MekanismRecipe> {
 
+    /**
+     * Version returned by {@link #getInputVersion(int)} when the holder does not track changes to its inputs.
+     */
+    long UNTRACKED = -1;
+
     @Nullable
     default CachedRecipe<RECIPE> getUpdatedCache(int cacheIndex) {
         CachedRecipe<RECIPE> currentCache = getCachedRecipe(cacheIndex);
+        long inputVersion = getInputVersion(cacheIndex);
+        if (inputVersion != UNTRACKED && inputVersion == getFailedLookupVersion(cacheIndex)) {
+            //None of our inputs have changed since the last time we failed to find a recipe for them,
+            // so there is no need to validate the input or look the recipe up again
+            return currentCache;
+        }
         //If there is no cached recipe or the input doesn't match, attempt to get the recipe based on the input
-        //TODO: We probably want something so that we don't have to recheck if the input has not changed since the last check
-        // Maybe make it be !isInputValid AND inputHasChanged to check if the input is the same as the last time isInputValid was called
-        // Note: This still doesn't have a benefit for if currentCache is null, but it will still help overall, or maybe make a method in this interface
-        // that has to be implemented, giving thinking about it there is no reason input/output helpers cannot be final given they are just suppliers
-        // and are always the same for a given machine
         if (currentCache == null || !currentCache.isInputValid()) {
             RECIPE recipe = getRecipe(cacheIndex);
             if (recipe != null) {
                 CachedRecipe<RECIPE> cached = createNewCachedRecipe(recipe, cacheIndex);
-                if (currentCache == null || cached != null) {
+                if (cached != null) {
                     //Only override our cached recipe if we were able to find a recipe that matches, or we don't have a cached recipe.
                     // This way if we end up getting back to the same recipe we won't have to recalculate quite as much
                     return cached;
                 }
             }
+            setFailedLookupVersion(cacheIndex, inputVersion);
         }
         return currentCache;
     }
 
+    /**
+     * Gets a version for the inputs used to look up the recipe for the given cache index. The version must change whenever any of those inputs change, for example by
+     * combining the versions of the slots and tanks the inputs are read from.
+     *
+     * @return The version of the inputs, or {@link #UNTRACKED} if changes are not tracked, in which case the input will be revalidated every time the cache is updated.
+     */
+    default long getInputVersion(int cacheIndex) {
+        return UNTRACKED;
+    }
+
+    /**
+     * @return The input version at which the last recipe lookup for the given cache index failed, or {@link #UNTRACKED} if there is none.
+     */
+    default long getFailedLookupVersion(int cacheIndex) {
+        return UNTRACKED;
+    }
+
+    /**
+     * Called when no new recipe could be found for the inputs of the given cache index, so that holders that track their inputs can skip looking up a recipe again
+     * until the inputs change.
+     */
+    default void setFailedLookupVersion(int cacheIndex, long version) {
+    }
+
     @Nullable
     CachedRecipe<RECIPE> getCachedRecipe(int cacheIndex);
 
@@ -302,6 +302,14 @@ public abstract class FluidStackIngredient implements InputIngredient<@NonNull F
             return json;
         }
 
+        /**
+         * @return The ingredients this is made up of.
+         */
+        @NonNull
+        public List<FluidStackIngredient> getIngredients() {
+            return Collections.unmodifiableList(Arrays.asList(ingredients));
+        }
+
         public static FluidStackIngredient read(PacketBuffer buffer) {
             //TODO: Verify this works
             FluidStackIngredient[] ingredients = new FluidStackIngredient[buffer.readInt()];
@@ -317,6 +317,14 @@ public abstract class GasStackIngredient implements InputIngredient<@NonNull Gas
             return json;
         }
 
+        /**
+         * @return The ingredients this is made up of.
+         */
+        @NonNull
+        public List<GasStackIngredient> getIngredients() {
+            return Collections.unmodifiableList(Arrays.asList(ingredients));
+        }
+
         public static GasStackIngredient read(PacketBuffer buffer) {
             //TODO: Verify this works
             GasStackIngredient[] ingredients = new GasStackIngredient[buffer.readInt()];
@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -218,6 +219,14 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             return json;
         }
 
+        /**
+         * @return The vanilla ingredient this wraps.
+         */
+        @NonNull
+        public Ingredient getInputRaw() {
+            return ingredient;
+        }
+
         public static Single read(PacketBuffer buffer) {
             return new Single(Ingredient.read(buffer), buffer.readInt());
         }
@@ -284,6 +293,14 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             return json;
         }
 
+        /**
+         * @return The ingredients this is made up of.
+         */
+        @NonNull
+        public List<ItemStackIngredient> getIngredients() {
+            return Collections.unmodifiableList(Arrays.asList(ingredients));
+        }
+
         public static ItemStackIngredient read(PacketBuffer buffer) {
             //TODO: Verify this works
             ItemStackIngredient[] ingredients = new ItemStackIngredient[buffer.readInt()];
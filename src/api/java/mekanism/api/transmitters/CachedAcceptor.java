@@ -0,0 +1,64 @@
+package mekanism.api.transmitters;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+
+/**
+ * Resolved acceptors of a single tile that a {@link DynamicNetwork} emits into, so that emitting does not have to look the tile up or query its capabilities every tick.
+ *
+ * @param <ACCEPTOR> The type of acceptor this cache holds.
+ */
+public class CachedAcceptor<ACCEPTOR> {
+
+    private final TileEntity tile;
+    private final Direction[] sides = new Direction[6];
+    private final Object[] acceptors = new Object[6];
+    private int size;
+    private boolean valid = true;
+
+    public CachedAcceptor(@Nonnull TileEntity tile) {
+        this.tile = tile;
+    }
+
+    public void addAcceptor(@Nonnull Direction side, @Nonnull ACCEPTOR acceptor) {
+        sides[size] = side;
+        acceptors[size] = acceptor;
+        size++;
+    }
+
+    @Nonnull
+    public TileEntity getTile() {
+        return tile;
+    }
+
+    /**
+     * @return The number of sides this cache has resolved acceptors for.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Nonnull
+    public Direction getSide(int index) {
+        return sides[index];
+    }
+
+    @Nullable
+    public ACCEPTOR getAcceptor(int index) {
+        return (ACCEPTOR) acceptors[index];
+    }
+
+    /**
+     * Marks this cache as no longer valid, meaning the acceptors need to be resolved again before they can be used. This is safe to call from capability invalidation
+     * listeners.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    public boolean isValid() {
+        return valid && !tile.isRemoved();
+    }
+}
@@ -1,23 +1,36 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
 import mekanism.api.IClientTicker;
-import mekanism.api.Range4D;
 import mekanism.api.text.IHasTextComponent;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.fml.common.thread.EffectiveSide;
@@ -32,11 +45,25 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitters = new HashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersToAdd = new HashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersAdded = new HashSet<>();
+    private final Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> changedTransmitters = new HashSet<>();
 
-    protected Set<Coord4D> possibleAcceptors = new HashSet<>();
-    protected Map<Coord4D, EnumSet<Direction>> acceptorDirections = new HashMap<>();
+    /**
+     * The possible acceptors of this network, keyed by {@link BlockPos#toLong()} as all of them are in the same world as the network. The values are bitmasks of the
+     * sides of the acceptor that are connected to this network, see {@link #hasSide(byte, Direction)}.
+     */
+    protected Long2ByteOpenHashMap acceptorDirections = new Long2ByteOpenHashMap();
     protected Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<Direction>> changedAcceptors = new HashMap<>();
-    protected Range4D packetRange = null;
+    /**
+     * Persistent cache of resolved acceptors, keyed by the position of the acceptor. Entries are only invalidated through {@link #acceptorChanged(IGridTransmitter,
+     * Direction)}, {@link #updateTransmitterOnSide(IGridTransmitter, Direction)} and the invalidation listeners of the capabilities they were resolved from.
+     */
+    protected Long2ObjectOpenHashMap<CachedAcceptor<ACCEPTOR>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
+    /**
+     * Number of transmitters of this network in each chunk, keyed by {@link ChunkPos#asLong(int, int)}, so that updates only have to be sent to the players tracking
+     * those chunks.
+     */
+    private final Long2IntOpenHashMap transmitterChunks = new Long2IntOpenHashMap();
+    private double lastSaveShare;
     protected int capacity = 0;
     protected double doubleCapacity = 0;
     protected boolean needsUpdate = false;
@@ -64,7 +91,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
                     transmitter.setTransmitterNetwork((NETWORK) this);
                     absorbBuffer(transmitter);
-                    transmitters.add(transmitter);
+                    if (transmitters.add(transmitter)) {
+                        trackChunk(transmitter);
+                    }
                 }
             }
 
@@ -90,29 +119,88 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void updateTransmitterOnSide(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
         ACCEPTOR acceptor = transmitter.getAcceptor(side);
-        Coord4D acceptorCoord = transmitter.coord().offset(side);
-        EnumSet<Direction> directions = acceptorDirections.get(acceptorCoord);
-
+        long acceptorPos = transmitter.getPos().offset(side).toLong();
+        invalidateCachedAcceptor(acceptorPos);
+        onTopologyChanged();
         if (acceptor != null) {
-            possibleAcceptors.add(acceptorCoord);
-            if (directions != null) {
-                directions.add(side.getOpposite());
+            acceptorDirections.put(acceptorPos, (byte) (acceptorDirections.get(acceptorPos) | sideMask(side.getOpposite())));
+        } else {
+            removeAcceptorSide(acceptorPos, side.getOpposite());
+        }
+    }
+
+    private void removeAcceptorSide(long acceptorPos, Direction side) {
+        byte directions = (byte) (acceptorDirections.get(acceptorPos) & ~sideMask(side));
+        if (directions == 0) {
+            acceptorDirections.remove(acceptorPos);
+        } else {
+            acceptorDirections.put(acceptorPos, directions);
+        }
+    }
+
+    protected static byte sideMask(Direction side) {
+        return (byte) (1 << side.ordinal());
+    }
+
+    /**
+     * @param sides Bitmask of sides as stored in {@link #acceptorDirections}.
+     *
+     * @return {@code true} if the given side is part of the bitmask.
+     */
+    public static boolean hasSide(byte sides, Direction side) {
+        return (sides & sideMask(side)) != 0;
+    }
+
+    /**
+     * Gets the cached acceptors at the given position, resolving them again if they are not cached yet or the cache has been invalidated.
+     *
+     * @param pos Position of the acceptor, as stored in {@link #acceptorDirections}.
+     *
+     * @return The cached acceptors, or null if there is nothing to emit into at the given position.
+     */
+    @Nullable
+    protected CachedAcceptor<ACCEPTOR> getCachedAcceptor(long pos) {
+        CachedAcceptor<ACCEPTOR> cached = cachedAcceptors.get(pos);
+        if (cached == null || !cached.isValid()) {
+            byte sides = acceptorDirections.get(pos);
+            cached = sides == 0 ? null : resolveAcceptor(BlockPos.fromLong(pos), sides);
+            if (cached == null) {
+                cachedAcceptors.remove(pos);
             } else {
-                acceptorDirections.put(acceptorCoord, EnumSet.of(side.getOpposite()));
+                cachedAcceptors.put(pos, cached);
             }
-        } else if (directions != null) {
-            directions.remove(side.getOpposite());
+        }
+        return cached;
+    }
 
-            if (directions.isEmpty()) {
-                possibleAcceptors.remove(acceptorCoord);
-                acceptorDirections.remove(acceptorCoord);
-            }
-        } else {
-            possibleAcceptors.remove(acceptorCoord);
-            acceptorDirections.remove(acceptorCoord);
+    /**
+     * Resolves the acceptors at the given position for use in {@link #getCachedAcceptor(long)}. Implementations should register {@link CachedAcceptor#invalidate()}
+     * as an invalidation listener on any capabilities they resolve.
+     *
+     * @param pos   Position of the acceptor.
+     * @param sides Bitmask of the sides of the acceptor that are connected to this network.
+     *
+     * @return The resolved acceptors, or null if the acceptor is not currently available.
+     */
+    @Nullable
+    protected CachedAcceptor<ACCEPTOR> resolveAcceptor(BlockPos pos, byte sides) {
+        return null;
+    }
+
+    public void invalidateCachedAcceptor(long pos) {
+        CachedAcceptor<ACCEPTOR> cached = cachedAcceptors.remove(pos);
+        if (cached != null) {
+            cached.invalidate();
         }
     }
 
+    protected void clearCachedAcceptors() {
+        for (CachedAcceptor<ACCEPTOR> cached : cachedAcceptors.values()) {
+            cached.invalidate();
+        }
+        cachedAcceptors.clear();
+    }
+
     @Nullable
     public BUFFER getBuffer() {
         return null;
@@ -129,7 +217,14 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void invalidate() {
         //Remove invalid transmitters first for share calculations
-        transmitters.removeIf(transmitter -> !transmitter.isValid());
+        Iterator<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> iterator = transmitters.iterator();
+        while (iterator.hasNext()) {
+            IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = iterator.next();
+            if (!transmitter.isValid()) {
+                iterator.remove();
+                untrackChunk(transmitter);
+            }
+        }
 
         //Clamp the new buffer
         clampBuffer();
@@ -145,9 +240,193 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
 
         transmitters.clear();
+        transmitterChunks.clear();
         deregister();
     }
 
+    /**
+     * Marks a transmitter of this network as no longer valid or as having changed its connections, to be dealt with by {@link #invalidateChanged()}.
+     */
+    public void transmitterChanged(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        changedTransmitters.add(transmitter);
+    }
+
+    /**
+     * Removes the transmitters passed to {@link #transmitterChanged(IGridTransmitter)} since the last call from this network.
+     */
+    public void invalidateChanged() {
+        if (!changedTransmitters.isEmpty()) {
+            invalidate(changedTransmitters);
+            changedTransmitters.clear();
+        }
+    }
+
+    /**
+     * Removes the given transmitters from this network, either because they are no longer valid or because their connections changed. Unlike {@link #invalidate()}
+     * this only splits off the parts of the network that are no longer connected to the rest, and the rest keeps using this network.
+     *
+     * Changed transmitters that are still valid are orphaned so that {@link TransmitterNetworkRegistry} connects them again, which may merge them into other networks.
+     *
+     * @param changed The transmitters of this network that changed.
+     */
+    private void invalidate(Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> changed) {
+        if (isRemote() || !transmittersToAdd.isEmpty() || !transmitters.containsAll(changed)) {
+            //Not in a state we can safely update incrementally, rebuild everything
+            invalidate();
+            return;
+        }
+        //Only the transmitters next to the changed ones can have lost their connection to the rest of the network. Look at all of them, not just the connected ones,
+        // as the connections of the changed transmitters may be what changed
+        Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> neighbors = new LinkedHashSet<>();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : changed) {
+            for (Direction side : DIRECTIONS) {
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> neighbor = transmitter.getAdjacentTransmitter(side);
+                if (isRemaining(neighbor, changed)) {
+                    neighbors.add(neighbor);
+                }
+            }
+        }
+        Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> leaving = findDisconnected(neighbors, changed);
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : changed) {
+            if (transmitter.isValid()) {
+                leaving.add(transmitter);
+            } else {
+                if (transmitters.remove(transmitter)) {
+                    untrackChunk(transmitter);
+                }
+                removeAcceptorsOf(transmitter);
+            }
+        }
+
+        //Same as in invalidate, update all shares before any get taken out of the buffer
+        clampBuffer();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : leaving) {
+            transmitter.updateShare();
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : leaving) {
+            invalidateTransmitter(transmitter);
+            if (transmitters.remove(transmitter)) {
+                untrackChunk(transmitter);
+            }
+            removeAcceptorsOf(transmitter);
+        }
+
+        if (transmitters.isEmpty()) {
+            deregister();
+        } else {
+            updateCapacity();
+            clampBuffer();
+            needsUpdate = true;
+        }
+    }
+
+    /**
+     * Searches outwards from all the given transmitters at the same time, merging searches that run into each other, until at most one search is still running. Every
+     * search that ran out of transmitters before that found a part of the network that is no longer connected to the rest. This means only the smaller parts get fully
+     * explored, while the remaining part is left as is.
+     *
+     * @param starts  The transmitters to search from.
+     * @param changed The transmitters that are leaving this network.
+     *
+     * @return The transmitters that are no longer connected to the part of the network that still gets to use this network.
+     */
+    private Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> findDisconnected(Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> starts,
+          Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> changed) {
+        Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> disconnected = new HashSet<>();
+        int searches = starts.size();
+        if (searches <= 1) {
+            //The network was connected before, so everything that is left is still connected through the single start
+            return disconnected;
+        }
+        Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, Integer> owners = new HashMap<>();
+        List<Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> frontiers = new ArrayList<>(searches);
+        int[] mergedInto = new int[searches];
+        boolean[] finished = new boolean[searches];
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> start : starts) {
+            int search = frontiers.size();
+            mergedInto[search] = search;
+            owners.put(start, search);
+            Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> frontier = new ArrayDeque<>();
+            frontier.add(start);
+            frontiers.add(frontier);
+        }
+        int running = searches;
+        while (running > 1) {
+            for (int search = 0; search < searches && running > 1; search++) {
+                if (mergedInto[search] != search || finished[search]) {
+                    continue;
+                }
+                Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> frontier = frontiers.get(search);
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = frontier.poll();
+                if (transmitter == null) {
+                    finished[search] = true;
+                    running--;
+                    continue;
+                }
+                BlockPos pos = transmitter.getPos();
+                for (Direction side : DIRECTIONS) {
+                    if (side.getAxis().isHorizontal() && !transmitter.world().isBlockLoaded(pos.offset(side))) {
+                        continue;
+                    }
+                    IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> neighbor = transmitter.getAdjacentConnectableTransmitter(side);
+                    if (!isRemaining(neighbor, changed)) {
+                        continue;
+                    }
+                    Integer owner = owners.get(neighbor);
+                    if (owner == null) {
+                        owners.put(neighbor, search);
+                        frontier.add(neighbor);
+                    } else {
+                        int other = findSearch(mergedInto, owner);
+                        if (other != search) {
+                            //The two searches are in the same part of the network, continue them as one
+                            mergedInto[other] = search;
+                            frontier.addAll(frontiers.get(other));
+                            frontiers.get(other).clear();
+                            if (!finished[other]) {
+                                running--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        for (Entry<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, Integer> entry : owners.entrySet()) {
+            if (finished[findSearch(mergedInto, entry.getValue())]) {
+                disconnected.add(entry.getKey());
+            }
+        }
+        return disconnected;
+    }
+
+    /**
+     * @return {@code true} if the given transmitter is part of this network and is not one of the ones that are leaving it.
+     */
+    private boolean isRemaining(@Nullable IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> changed) {
+        return transmitter != null && !changed.contains(transmitter) && transmitters.contains(transmitter);
+    }
+
+    private static int findSearch(int[] mergedInto, int search) {
+        while (mergedInto[search] != search) {
+            search = mergedInto[search];
+        }
+        return search;
+    }
+
+    private void removeAcceptorsOf(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        changedAcceptors.remove(transmitter);
+        BlockPos pos = transmitter.getPos();
+        for (Direction side : DIRECTIONS) {
+            long acceptorPos = pos.offset(side).toLong();
+            if (acceptorDirections.containsKey(acceptorPos)) {
+                removeAcceptorSide(acceptorPos, side.getOpposite());
+                if (!acceptorDirections.containsKey(acceptorPos)) {
+                    invalidateCachedAcceptor(acceptorPos);
+                }
+            }
+        }
+    }
+
     public void invalidateTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         if (!isRemote() && transmitter.isValid()) {
             transmitter.takeShare();
@@ -157,6 +436,8 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void acceptorChanged(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
+        //Invalidate it right away so that we don't emit into a stale acceptor before the change gets committed
+        invalidateCachedAcceptor(transmitter.getPos().offset(side).toLong());
         EnumSet<Direction> directions = changedAcceptors.get(transmitter);
         if (directions != null) {
             directions.add(side);
@@ -169,62 +450,17 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void adoptTransmittersAndAcceptorsFrom(NETWORK net) {
         for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : net.transmitters) {
             transmitter.setTransmitterNetwork((NETWORK) this);
-            transmitters.add(transmitter);
+            if (transmitters.add(transmitter)) {
+                trackChunk(transmitter);
+            }
             transmittersAdded.add(transmitter);
         }
 
         transmittersToAdd.addAll(net.transmittersToAdd);
-        possibleAcceptors.addAll(net.possibleAcceptors);
-
-        for (Entry<Coord4D, EnumSet<Direction>> entry : net.acceptorDirections.entrySet()) {
-            Coord4D coord = entry.getKey();
-            if (acceptorDirections.containsKey(coord)) {
-                acceptorDirections.get(coord).addAll(entry.getValue());
-            } else {
-                acceptorDirections.put(coord, entry.getValue());
-            }
-        }
-    }
-
-    public Range4D getPacketRange() {
-        return packetRange == null ? genPacketRange() : packetRange;
-    }
-
-    protected Range4D genPacketRange() {
-        if (getSize() == 0) {
-            deregister();
-            return null;
-        }
-
-        IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> initTransmitter = transmitters.iterator().next();
-        Coord4D initCoord = initTransmitter.coord();
-
-        int minX = initCoord.x;
-        int minY = initCoord.y;
-        int minZ = initCoord.z;
-        int maxX = initCoord.x;
-        int maxY = initCoord.y;
-        int maxZ = initCoord.z;
-
-        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmitters) {
-            Coord4D coord = transmitter.coord();
-            if (coord.x < minX) {
-                minX = coord.x;
-            } else if (coord.x > maxX) {
-                maxX = coord.x;
-            }
-            if (coord.y < minY) {
-                minY = coord.y;
-            } else if (coord.y > maxY) {
-                maxY = coord.y;
-            }
-            if (coord.z < minZ) {
-                minZ = coord.z;
-            } else if (coord.x > maxZ) {
-                maxZ = coord.z;
-            }
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(net.acceptorDirections)) {
+            long pos = entry.getLongKey();
+            acceptorDirections.put(pos, (byte) (acceptorDirections.get(pos) | entry.getByteValue()));
         }
-        return new Range4D(minX, minY, minZ, maxX, maxY, maxZ, initTransmitter.world().getDimension().getType());
     }
 
     public void register() {
@@ -237,8 +473,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void deregister() {
         transmitters.clear();
+        transmitterChunks.clear();
         transmittersToAdd.clear();
         transmittersAdded.clear();
+        clearCachedAcceptors();
 
         if (!isRemote()) {
             TransmitterNetworkRegistry.getInstance().removeNetwork(this);
@@ -252,7 +490,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public int getAcceptorSize() {
-        return possibleAcceptors.size();
+        return acceptorDirections.size();
     }
 
     public synchronized void updateCapacity() {
@@ -277,6 +515,23 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         onUpdate();
     }
 
+    /**
+     * Checks if ticking this network would not change anything, so that {@link TransmitterNetworkRegistry} does not have to tick it. Implementations must only return
+     * {@code true} when {@link #onUpdate()} would leave the network exactly as it is.
+     *
+     * @return {@code true} if this network can skip ticking this tick.
+     */
+    public boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} if there are client updates that still have to be sent out by {@link #onUpdate()}.
+     */
+    protected boolean hasPendingUpdates() {
+        return !updateQueue.isEmpty() || updateDelay > 0;
+    }
+
     public void onUpdate() {
         if (!isRemote()) {
             Iterator<DelayQueue> i = updateQueue.iterator();
@@ -338,17 +593,85 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public boolean addTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
-        return transmitters.add(transmitter);
+        if (transmitters.add(transmitter)) {
+            trackChunk(transmitter);
+            return true;
+        }
+        return false;
     }
 
     public boolean removeTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         boolean removed = transmitters.remove(transmitter);
+        if (removed) {
+            untrackChunk(transmitter);
+        }
         if (transmitters.isEmpty()) {
             deregister();
         }
         return removed;
     }
 
+    /**
+     * @return The chunks this network has transmitters in, as {@link ChunkPos#asLong(int, int)}.
+     */
+    public LongSet getTransmitterChunks() {
+        return transmitterChunks.keySet();
+    }
+
+    private static long getChunkKey(IGridTransmitter<?, ?, ?> transmitter) {
+        BlockPos pos = transmitter.getPos();
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    private void trackChunk(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        transmitterChunks.addTo(getChunkKey(transmitter), 1);
+        onTopologyChanged();
+    }
+
+    private void untrackChunk(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        long chunk = getChunkKey(transmitter);
+        if (transmitterChunks.addTo(chunk, -1) <= 1) {
+            transmitterChunks.remove(chunk);
+        }
+        onTopologyChanged();
+    }
+
+    /**
+     * Transmitters only work out their share of the buffer when their chunk gets saved, so instead of each of them checking their share every tick the network marks
+     * its chunks as modified whenever the whole amount each transmitter would save changed, making sure the new shares get saved without dirtying the chunks every
+     * time a fraction of the buffer moves.
+     *
+     * @param stored The amount currently stored in the buffer of this network.
+     */
+    protected void updateSaveShares(double stored) {
+        int size = transmitters.size();
+        double share = size == 0 ? 0 : Math.floor(stored / size);
+        if (share != lastSaveShare) {
+            lastSaveShare = share;
+            markChunksDirty();
+        }
+    }
+
+    private void markChunksDirty() {
+        if (world != null) {
+            LongIterator iterator = transmitterChunks.keySet().iterator();
+            while (iterator.hasNext()) {
+                long chunkPos = iterator.nextLong();
+                IChunk chunk = world.getChunk(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos), ChunkStatus.FULL, false);
+                if (chunk != null) {
+                    chunk.setModified(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called whenever a transmitter gets added to or removed from this network, or the acceptors next to one of its transmitters changed. Networks that cache
+     * anything derived from the layout of their transmitters can use this to know when to rebuild it.
+     */
+    protected void onTopologyChanged() {
+    }
+
     public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> firstTransmitter() {
         return transmitters.iterator().next();
     }
@@ -365,12 +688,22 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return transmittersAdded;
     }
 
-    public Set<Coord4D> getPossibleAcceptors() {
-        return possibleAcceptors;
+    public LongSet getPossibleAcceptors() {
+        return acceptorDirections.keySet();
     }
 
-    public Map<Coord4D, EnumSet<Direction>> getAcceptorDirections() {
-        return acceptorDirections;
+    /**
+     * @return The sides of the acceptor at the given position that are connected to this network.
+     */
+    public Set<Direction> getAcceptorDirections(BlockPos pos) {
+        byte sides = acceptorDirections.get(pos.toLong());
+        Set<Direction> directions = EnumSet.noneOf(Direction.class);
+        for (Direction side : DIRECTIONS) {
+            if (hasSide(sides, side)) {
+                directions.add(side);
+            }
+        }
+        return directions;
     }
 
     public Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<Direction>> getChangedAcceptors() {
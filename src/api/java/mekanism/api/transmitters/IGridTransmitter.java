@@ -4,6 +4,7 @@ import java.util.Collection;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 
@@ -45,8 +46,37 @@ public interface IGridTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     Coord4D coord();
 
+    /**
+     * Gets the position of this transmitter in {@link #world()}, without the dimension of {@link #coord()}.
+     *
+     * @return position of this transmitter
+     */
+    default BlockPos getPos() {
+        return coord().getPos();
+    }
+
     Coord4D getAdjacentConnectableTransmitterCoord(Direction side);
 
+    /**
+     * Gets the transmitter next to this one that this transmitter can connect to.
+     *
+     * @param side - side to look on
+     *
+     * @return the adjacent transmitter, or null if there is none or it can't be connected to
+     */
+    @Nullable
+    IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentConnectableTransmitter(Direction side);
+
+    /**
+     * Gets the transmitter of the same type next to this one, regardless of whether they are connected.
+     *
+     * @param side - side to look on
+     *
+     * @return the adjacent transmitter, or null if there is none
+     */
+    @Nullable
+    IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentTransmitter(Direction side);
+
     ACCEPTOR getAcceptor(Direction side);
 
     boolean isValid();
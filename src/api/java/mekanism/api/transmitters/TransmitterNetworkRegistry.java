@@ -1,15 +1,23 @@
 package mekanism.api.transmitters;
 
-import java.util.Deque;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
@@ -30,8 +38,11 @@ public class TransmitterNetworkRegistry {
     private Set<DynamicNetwork<?, ?, ?>> networks = new HashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new HashSet<>();
     private Set<IGridTransmitter<?, ?, ?>> invalidTransmitters = new HashSet<>();
-    private Map<Coord4D, IGridTransmitter<?, ?, ?>> orphanTransmitters = new HashMap<>();
-    private Map<Coord4D, IGridTransmitter<?, ?, ?>> newOrphanTransmitters = new HashMap<>();
+    /**
+     * Orphaned transmitters by dimension, keyed by {@link BlockPos#toLong()}.
+     */
+    private Map<DimensionType, Long2ObjectMap<IGridTransmitter<?, ?, ?>>> orphanTransmitters = new HashMap<>();
+    private Map<DimensionType, Long2ObjectMap<IGridTransmitter<?, ?, ?>>> newOrphanTransmitters = new HashMap<>();
 
     public static void initiate() {
         if (!loaderRegistered) {
@@ -53,10 +64,10 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void registerOrphanTransmitter(IGridTransmitter<?, ?, ?> transmitter) {
-        Coord4D coord = transmitter.coord();
-        IGridTransmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(coord, transmitter);
+        IGridTransmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.computeIfAbsent(transmitter.world().getDimension().getType(),
+              dimension -> new Long2ObjectOpenHashMap<>()).put(transmitter.getPos().toLong(), transmitter);
         if (previous != null && previous != transmitter) {
-            logger.error("Different orphan transmitter was already registered at location! {}", coord.toString());
+            logger.error("Different orphan transmitter was already registered at location! {}", transmitter.coord().toString());
         }
     }
 
@@ -89,7 +100,10 @@ public class TransmitterNetworkRegistry {
         assignOrphans();
         commitChanges();
         for (DynamicNetwork<?, ?, ?> net : networks) {
-            net.tick();
+            //Most networks sit empty most of the time, don't bother ticking ones that have nothing to do
+            if (!net.isIdle()) {
+                net.tick();
+            }
         }
     }
 
@@ -98,31 +112,48 @@ public class TransmitterNetworkRegistry {
             logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
         }
 
+        Set<DynamicNetwork<?, ?, ?>> changedNetworks = new LinkedHashSet<>();
         for (IGridTransmitter<?, ?, ?> invalid : invalidTransmitters) {
             if (!(invalid.isOrphan() && invalid.isValid())) {
-                DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
+                DynamicNetwork<?, ?, ?> n = markChanged(invalid);
                 if (n != null) {
-                    n.invalidate();
+                    changedNetworks.add(n);
                 }
             }
         }
+        //Only split off the parts of each network that actually got disconnected
+        for (DynamicNetwork<?, ?, ?> network : changedNetworks) {
+            network.invalidateChanged();
+        }
 
         invalidTransmitters.clear();
     }
 
+    @Nullable
+    private static <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, BUFFER>, BUFFER> NETWORK markChanged(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        NETWORK network = transmitter.getTransmitterNetwork();
+        if (network != null) {
+            network.transmitterChanged(transmitter);
+        }
+        return network;
+    }
+
     public void assignOrphans() {
-        orphanTransmitters = new HashMap<>(newOrphanTransmitters);
-        newOrphanTransmitters.clear();
+        //Swap the maps instead of copying, anything orphaned while assigning goes into the fresh map for the next tick
+        orphanTransmitters = newOrphanTransmitters;
+        newOrphanTransmitters = new HashMap<>();
 
         if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
-            logger.info("Dealing with " + orphanTransmitters.size() + " orphan Transmitters");
+            logger.info("Dealing with " + orphanTransmitters.values().stream().mapToInt(Map::size).sum() + " orphan Transmitters");
         }
 
-        for (IGridTransmitter<?, ?, ?> orphanTransmitter : new HashMap<>(orphanTransmitters).values()) {
-            DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(orphanTransmitter);
-            if (network != null) {
-                networksToChange.add(network);
-                network.register();
+        for (Long2ObjectMap<IGridTransmitter<?, ?, ?>> dimensionOrphans : orphanTransmitters.values()) {
+            for (IGridTransmitter<?, ?, ?> orphanTransmitter : dimensionOrphans.values()) {
+                DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(orphanTransmitter);
+                if (network != null) {
+                    networksToChange.add(network);
+                    network.register();
+                }
             }
         }
 
@@ -194,57 +225,64 @@ public class TransmitterNetworkRegistry {
 
         public IGridTransmitter<A, N, BUFFER> startPoint;
 
-        public HashSet<Coord4D> iterated = new HashSet<>();
+        /**
+         * Positions that have already been visited, keyed by {@link BlockPos#toLong()}. Everything the path finder visits is in the world of the start point.
+         */
+        public LongSet iterated = new LongOpenHashSet();
 
         public HashSet<IGridTransmitter<A, N, BUFFER>> connectedTransmitters = new HashSet<>();
         public HashSet<N> networksFound = new HashSet<>();
 
-        private Deque<Coord4D> queue = new LinkedList<>();
+        private LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphans;
 
         public boolean someNetworksFailed;
 
         public OrphanPathFinder(IGridTransmitter<A, N, BUFFER> start) {
             startPoint = start;
+            orphans = orphanTransmitters.getOrDefault(start.world().getDimension().getType(), Long2ObjectMaps.emptyMap());
         }
 
         public void start() {
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.coord());
-            while (queue.peek() != null) {
-                iterate(queue.removeFirst());
+            queue.enqueue(startPoint.getPos().toLong());
+            while (!queue.isEmpty()) {
+                iterate(queue.dequeueLong());
             }
         }
 
-        public void iterate(Coord4D from) {
-            if (iterated.contains(from)) {
+        public void iterate(long from) {
+            if (!iterated.add(from)) {
                 return;
             }
 
-            iterated.add(from);
-
-            if (orphanTransmitters.containsKey(from)) {
-                IGridTransmitter<A, N, BUFFER> transmitter = (IGridTransmitter<A, N, BUFFER>) orphanTransmitters.get(from);
+            IGridTransmitter<A, N, BUFFER> transmitter = (IGridTransmitter<A, N, BUFFER>) orphans.get(from);
+            if (transmitter != null) {
 
                 if (transmitter.isValid() && transmitter.isOrphan() &&
                     (connectedTransmitters.isEmpty() || connectedTransmitters.stream().anyMatch(existing -> existing.isCompatibleWith(transmitter)))) {
                     connectedTransmitters.add(transmitter);
                     transmitter.setOrphan(false);
 
+                    BlockPos pos = BlockPos.fromLong(from);
                     for (Direction direction : DIRECTIONS) {
-                        if (direction.getAxis().isHorizontal() && !transmitter.world().isBlockLoaded(from.getPos().offset(direction))) {
+                        if (direction.getAxis().isHorizontal() && !transmitter.world().isBlockLoaded(pos.offset(direction))) {
                             continue;
                         }
                         Coord4D directionCoord = transmitter.getAdjacentConnectableTransmitterCoord(direction);
-                        if (directionCoord != null && !iterated.contains(directionCoord)) {
-                            queue.addLast(directionCoord);
+                        if (directionCoord != null) {
+                            long directionPos = directionCoord.getPos().toLong();
+                            if (!iterated.contains(directionPos)) {
+                                queue.enqueue(directionPos);
+                            }
                         }
                     }
                 }
             } else {
-                addNetworkToIterated(from);
+                addNetworkToIterated(new Coord4D(BlockPos.fromLong(from), startPoint.world()));
             }
         }
 
@@ -662,6 +662,9 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.MINER_SEARCHING, "Searching");
         add(MekanismLang.MINER_PAUSED, "Paused");
         add(MekanismLang.MINER_READY, "Ready");
+        add(MekanismLang.MINER_QUEUED, "Queued");
+        add(MekanismLang.MINER_QUEUE_DEPTH, "Searches waiting: %s");
+        add(MekanismLang.MINER_SEARCH_TIME, "Search took: %s ms");
         //Boiler
         add(MekanismLang.BOILER, "Thermoelectric Boiler");
         add(MekanismLang.BOILER_STATS, "Boiler Statistics");
@@ -127,6 +127,12 @@ public class GuiDigitalMiner extends GuiMekanismTile<TileEntityDigitalMiner, Dig
         int yAxis = mouseY - getGuiTop();
         if (xAxis >= 164 && xAxis <= 168 && yAxis >= 25 && yAxis <= 77) {
             displayTooltip(EnergyDisplay.of(tile.getEnergy(), tile.getMaxEnergy()).getTextComponent(), xAxis, yAxis);
+        } else if (xAxis >= 9 && xAxis <= 66 && yAxis >= 19 && yAxis <= 27) {
+            if (tile.searcher.state == State.QUEUED) {
+                displayTooltip(MekanismLang.MINER_QUEUE_DEPTH.translate(tile.clientQueueDepth), xAxis, yAxis);
+            } else if (tile.searcher.state == State.FINISHED) {
+                displayTooltip(MekanismLang.MINER_SEARCH_TIME.translate(tile.clientSearchTime), xAxis, yAxis);
+            }
         } else if (xAxis >= 144 && xAxis <= 160 && yAxis >= 27 && yAxis <= 43) {
             if (!tile.missingStack.isEmpty()) {
                 displayTooltip(MekanismLang.MINER_MISSING_BLOCK.translate(), xAxis, yAxis);
@@ -1,6 +1,11 @@
 package mekanism.common;
 
 import com.mojang.authlib.GameProfile;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.shorts.ShortList;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,8 +30,8 @@ import mekanism.common.config.MekanismModConfig;
 import mekanism.common.content.boiler.SynchronizedBoilerData;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
+import mekanism.common.content.miner.MinerSearchExecutor;
 import mekanism.common.content.tank.SynchronizedTankData;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
@@ -34,7 +39,6 @@ import mekanism.common.integration.MekanismHooks;
 import mekanism.common.multiblock.MultiblockManager;
 import mekanism.common.network.PacketDataRequest;
 import mekanism.common.network.PacketTransmitterUpdate;
-import mekanism.common.network.PacketTransmitterUpdate.PacketType;
 import mekanism.common.recipe.RecipeCacheManager;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismContainerTypes;
@@ -51,16 +55,22 @@ import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.security.SecurityFrequency;
 import mekanism.common.tags.MekanismTagManager;
+import mekanism.common.transmitters.TransmitterUpdateBatcher;
 import mekanism.common.transmitters.grid.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.transmitters.grid.FluidNetwork.FluidTransferEvent;
 import mekanism.common.transmitters.grid.GasNetwork.GasTransferEvent;
 import mekanism.common.world.GenHandler;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.resources.IFutureReloadListener;
 import net.minecraft.resources.IReloadableResourceManager;
 import net.minecraft.resources.SimpleReloadableResourceManager;
 import net.minecraft.tags.NetworkTagManager;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ChunkManager;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -175,6 +185,7 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::onGasTransferred);
         MinecraftForge.EVENT_BUS.addListener(this::onLiquidTransferred);
         MinecraftForge.EVENT_BUS.addListener(this::onTransmittersAddedEvent);
+        MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, TransmitterUpdateBatcher::onTick);
         MinecraftForge.EVENT_BUS.addListener(this::onNetworkClientRequest);
         MinecraftForge.EVENT_BUS.addListener(this::onClientTickUpdate);
         MinecraftForge.EVENT_BUS.addListener(this::chunkSave);
@@ -286,8 +297,9 @@ public class Mekanism {
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
-        PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        TransmitterUpdateBatcher.reset();
+        MinerSearchExecutor.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -362,33 +374,36 @@ public class Mekanism {
     }
 
     private void onEnergyTransferred(EnergyTransferEvent event) {
-        try {
-            packetHandler.sendToReceivers(new PacketTransmitterUpdate(PacketType.ENERGY, event.energyNetwork.firstTransmitter().coord(), event.power),
-                  event.energyNetwork.getPacketRange());
-        } catch (Exception ignored) {
-        }
+        TransmitterUpdateBatcher.queue(event.energyNetwork);
     }
 
     private void onGasTransferred(GasTransferEvent event) {
-        try {
-            packetHandler.sendToReceivers(new PacketTransmitterUpdate(PacketType.GAS, event.gasNetwork.firstTransmitter().coord(), event.transferType, event.didTransfer),
-                  event.gasNetwork.getPacketRange());
-        } catch (Exception ignored) {
-        }
+        TransmitterUpdateBatcher.queue(event.gasNetwork);
     }
 
     private void onLiquidTransferred(FluidTransferEvent event) {
-        try {
-            packetHandler.sendToReceivers(new PacketTransmitterUpdate(PacketType.FLUID, event.fluidNetwork.firstTransmitter().coord(), event.fluidType, event.didTransfer),
-                  event.fluidNetwork.getPacketRange());
-        } catch (Exception ignored) {
-        }
+        TransmitterUpdateBatcher.queue(event.fluidNetwork);
     }
 
     private void onTransmittersAddedEvent(TransmittersAddedEvent event) {
         try {
-            packetHandler.sendToReceivers(new PacketTransmitterUpdate(PacketType.UPDATE, event.network.firstTransmitter().coord(), event.newNetwork, event.newTransmitters),
-                  event.network.getPacketRange());
+            World world = event.network.getWorld();
+            if (world instanceof ServerWorld) {
+                ChunkManager chunkManager = ((ServerWorld) world).getChunkProvider().chunkManager;
+                Long2ObjectMap<ShortList> sections = PacketTransmitterUpdate.groupBySection(event.newTransmitters);
+                //Each player only gets the sections of the chunks they are tracking
+                Map<ServerPlayerEntity, LongList> playerSections = new HashMap<>();
+                LongIterator iterator = sections.keySet().iterator();
+                while (iterator.hasNext()) {
+                    long section = iterator.nextLong();
+                    ChunkPos chunk = new ChunkPos(SectionPos.extractX(section), SectionPos.extractZ(section));
+                    chunkManager.getTrackingPlayers(chunk, false).forEach(player -> playerSections.computeIfAbsent(player, p -> new LongArrayList()).add(section));
+                }
+                Coord4D coord = event.network.firstTransmitter().coord();
+                for (Map.Entry<ServerPlayerEntity, LongList> entry : playerSections.entrySet()) {
+                    packetHandler.sendTo(new PacketTransmitterUpdate(coord, event.newNetwork, sections, entry.getValue()), entry.getKey());
+                }
+            }
         } catch (Exception ignored) {
         }
     }
@@ -448,6 +463,8 @@ public class Mekanism {
         // when the server shuts down
         if (event.getWorld() instanceof ServerWorld) {
             MekFakePlayer.releaseInstance(event.getWorld());
+        } else if (event.getWorld().isRemote()) {
+            PacketTransmitterUpdate.resetDetachedNetworks();
         }
     }
 }
\ No newline at end of file
@@ -364,6 +364,9 @@ public enum MekanismLang implements ILangEntry {
     MINER_SEARCHING("miner", "searching"),
     MINER_PAUSED("miner", "paused"),
     MINER_READY("miner", "ready"),
+    MINER_QUEUED("miner", "queued"),
+    MINER_QUEUE_DEPTH("miner", "queue_depth"),
+    MINER_SEARCH_TIME("miner", "search_time"),
     //Boiler
     BOILER("boiler", "thermoelectric_boiler"),
     BOILER_STATS("boiler", "stats"),
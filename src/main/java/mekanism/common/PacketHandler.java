@@ -1,12 +1,15 @@
 package mekanism.common;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import mekanism.api.Range4D;
+import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.network.PacketClearRecipeCache;
@@ -33,6 +36,7 @@ import mekanism.common.network.PacketScubaTankData;
 import mekanism.common.network.PacketSecurityMode;
 import mekanism.common.network.PacketSecurityUpdate;
 import mekanism.common.network.PacketTileEntity;
+import mekanism.common.network.PacketTileEntityDelta;
 import mekanism.common.network.PacketTransmitterUpdate;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -48,6 +52,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ChunkManager;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.fml.network.NetworkDirection;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
@@ -81,49 +86,59 @@ public class PacketHandler {
      */
     public static void encode(Object[] dataValues, PacketBuffer output) {
         for (Object data : dataValues) {
-            if (data instanceof Byte) {
-                output.writeByte((Byte) data);
-            } else if (data instanceof Integer) {
-                output.writeInt((Integer) data);
-            } else if (data instanceof Short) {
-                output.writeShort((Short) data);
-            } else if (data instanceof Long) {
-                output.writeLong((Long) data);
-            } else if (data instanceof Boolean) {
-                output.writeBoolean((Boolean) data);
-            } else if (data instanceof Double) {
-                output.writeDouble((Double) data);
-            } else if (data instanceof Float) {
-                output.writeFloat((Float) data);
-            } else if (data instanceof String) {
-                output.writeString((String) data);
-            } else if (data instanceof UUID) {
-                output.writeUniqueId((UUID) data);
-            } else if (data instanceof Direction) {
-                output.writeInt(((Direction) data).ordinal());
-            } else if (data instanceof ItemStack) {
-                output.writeItemStack((ItemStack) data);
-            } else if (data instanceof CompoundNBT) {
-                output.writeCompoundTag((CompoundNBT) data);
-            } else if (data instanceof ResourceLocation) {
-                output.writeResourceLocation((ResourceLocation) data);
-            } else if (data instanceof Enum) {
-                output.writeEnumValue((Enum<?>) data);
-            } else if (data instanceof int[]) {
-                for (int i : (int[]) data) {
-                    output.writeInt(i);
-                }
-            } else if (data instanceof byte[]) {
-                for (byte b : (byte[]) data) {
-                    output.writeByte(b);
-                }
-            } else if (data instanceof ArrayList) {
-                encode(((ArrayList<?>) data).toArray(), output);
-            } else if (data instanceof NonNullList) {
-                encode(((NonNullList<?>) data).toArray(), output);
-            } else {
-                throw new RuntimeException("Un-encodable data passed to encode(): " + data + ", full data: " + Arrays.toString(dataValues));
+            encode(data, output);
+        }
+    }
+
+    /**
+     * Encodes a single value into a PacketBuffer.
+     *
+     * @param data   - the value to encode
+     * @param output - the output stream to write to
+     */
+    public static void encode(Object data, PacketBuffer output) {
+        if (data instanceof Byte) {
+            output.writeByte((Byte) data);
+        } else if (data instanceof Integer) {
+            output.writeInt((Integer) data);
+        } else if (data instanceof Short) {
+            output.writeShort((Short) data);
+        } else if (data instanceof Long) {
+            output.writeLong((Long) data);
+        } else if (data instanceof Boolean) {
+            output.writeBoolean((Boolean) data);
+        } else if (data instanceof Double) {
+            output.writeDouble((Double) data);
+        } else if (data instanceof Float) {
+            output.writeFloat((Float) data);
+        } else if (data instanceof String) {
+            output.writeString((String) data);
+        } else if (data instanceof UUID) {
+            output.writeUniqueId((UUID) data);
+        } else if (data instanceof Direction) {
+            output.writeInt(((Direction) data).ordinal());
+        } else if (data instanceof ItemStack) {
+            output.writeItemStack((ItemStack) data);
+        } else if (data instanceof CompoundNBT) {
+            output.writeCompoundTag((CompoundNBT) data);
+        } else if (data instanceof ResourceLocation) {
+            output.writeResourceLocation((ResourceLocation) data);
+        } else if (data instanceof Enum) {
+            output.writeEnumValue((Enum<?>) data);
+        } else if (data instanceof int[]) {
+            for (int i : (int[]) data) {
+                output.writeInt(i);
+            }
+        } else if (data instanceof byte[]) {
+            for (byte b : (byte[]) data) {
+                output.writeByte(b);
             }
+        } else if (data instanceof ArrayList) {
+            encode(((ArrayList<?>) data).toArray(), output);
+        } else if (data instanceof NonNullList) {
+            encode(((NonNullList<?>) data).toArray(), output);
+        } else {
+            throw new RuntimeException("Un-encodable data passed to encode(): " + data);
         }
     }
 
@@ -170,6 +185,7 @@ public class PacketHandler {
 
         registerMessage(PacketMekanismTags.class, PacketMekanismTags::encode, PacketMekanismTags::decode, PacketMekanismTags::handle);
         registerMessage(PacketClearRecipeCache.class, PacketClearRecipeCache::encode, PacketClearRecipeCache::decode, PacketClearRecipeCache::handle);
+        registerMessage(PacketTileEntityDelta.class, PacketTileEntityDelta::encode, PacketTileEntityDelta::decode, PacketTileEntityDelta::handle);
     }
 
     private <MSG> void registerMessage(Class<MSG> type, BiConsumer<MSG, PacketBuffer> encoder, Function<PacketBuffer, MSG> decoder, BiConsumer<MSG, Supplier<Context>> consumer) {
@@ -245,7 +261,24 @@ public class PacketHandler {
         }
     }
 
-    //TODO: change Network stuff over to using this
+    /**
+     * Send this message to everyone tracking any of the chunks the given network has transmitters in, each player only receiving it once.
+     */
+    public <MSG> void sendToAllTracking(MSG message, DynamicNetwork<?, ?, ?> network) {
+        World world = network.getWorld();
+        if (world instanceof ServerWorld) {
+            ChunkManager chunkManager = ((ServerWorld) world).getChunkProvider().chunkManager;
+            Set<ServerPlayerEntity> players = new ObjectOpenHashSet<>();
+            LongIterator iterator = network.getTransmitterChunks().iterator();
+            while (iterator.hasNext()) {
+                chunkManager.getTrackingPlayers(new ChunkPos(iterator.nextLong()), false).forEach(players::add);
+            }
+            for (ServerPlayerEntity player : players) {
+                sendTo(message, player);
+            }
+        }
+    }
+
     public <MSG> void sendToReceivers(MSG message, Range4D range) {
         MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         if (server != null) {
@@ -256,4 +289,4 @@ public class PacketHandler {
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package mekanism.common.base;
 
 import java.util.Optional;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.common.capabilities.Capabilities;
@@ -9,6 +10,7 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
 
@@ -17,25 +19,42 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
     public Coord4D coord;
 
     public static EnergyAcceptorWrapper get(TileEntity tile, Direction side) {
-        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side);
+        return get(tile, side, null);
+    }
+
+    /**
+     * @param tile                 Tile to get the acceptor of.
+     * @param side                 Side of the tile to get the acceptor of.
+     * @param invalidationListener If not null, gets notified when the capability backing the returned wrapper is invalidated.
+     */
+    public static EnergyAcceptorWrapper get(TileEntity tile, Direction side, @Nullable Runnable invalidationListener) {
+        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side, invalidationListener);
         if (wrapper != null) {
             wrapper.coord = Coord4D.get(tile);
         }
         return wrapper;
     }
 
-    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side) {
+    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side, @Nullable Runnable invalidationListener) {
         if (tile == null || tile.getWorld() == null) {
             return null;
         }
-        Optional<IStrictEnergyAcceptor> energyAcceptorCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side));
-        if (energyAcceptorCap.isPresent()) {
-            return new MekanismAcceptor(energyAcceptorCap.get());
+        LazyOptional<IStrictEnergyAcceptor> energyAcceptorCap = CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side);
+        Optional<IStrictEnergyAcceptor> energyAcceptor = MekanismUtils.toOptional(energyAcceptorCap);
+        if (energyAcceptor.isPresent()) {
+            if (invalidationListener != null) {
+                energyAcceptorCap.addListener(cap -> invalidationListener.run());
+            }
+            return new MekanismAcceptor(energyAcceptor.get());
         }
         if (MekanismUtils.useForge()) {
-            Optional<IEnergyStorage> forgeEnergyCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side));
-            if (forgeEnergyCap.isPresent()) {
-                return new ForgeAcceptor(forgeEnergyCap.get());
+            LazyOptional<IEnergyStorage> forgeEnergyCap = CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side);
+            Optional<IEnergyStorage> forgeEnergy = MekanismUtils.toOptional(forgeEnergyCap);
+            if (forgeEnergy.isPresent()) {
+                if (invalidationListener != null) {
+                    forgeEnergyCap.addListener(cap -> invalidationListener.run());
+                }
+                return new ForgeAcceptor(forgeEnergy.get());
             }
         }
         return null;
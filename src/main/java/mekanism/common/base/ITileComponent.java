@@ -1,6 +1,7 @@
 package mekanism.common.base;
 
 import mekanism.api.TileNetworkList;
+import mekanism.common.tile.base.SyncedData;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 
@@ -17,4 +18,16 @@ public interface ITileComponent {
     void write(TileNetworkList data);
 
     void invalidate();
+
+    /**
+     * Adds the typed fields for the data this component writes to its tile's networked data, for tiles that sync their GUI through {@link SyncedData}.
+     */
+    default void addSyncedFields(SyncedData data) {
+    }
+
+    /**
+     * Called when the chunk of the tile this component belongs to gets unloaded.
+     */
+    default void onChunkUnload() {
+    }
 }
\ No newline at end of file
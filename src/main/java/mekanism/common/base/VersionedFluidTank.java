@@ -0,0 +1,47 @@
+package mekanism.common.base;
+
+import java.util.function.Predicate;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.templates.FluidTank;
+
+/**
+ * Fluid tank that keeps a counter of how often its contents changed, so that things that depend on the contents can cheaply check if they need to be reevaluated.
+ */
+public class VersionedFluidTank extends FluidTank {
+
+    private int version;
+
+    public VersionedFluidTank(int capacity) {
+        super(capacity);
+    }
+
+    public VersionedFluidTank(int capacity, Predicate<FluidStack> validator) {
+        super(capacity, validator);
+    }
+
+    /**
+     * @return The current version of the contents of this tank.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public FluidTank readFromNBT(CompoundNBT nbt) {
+        super.readFromNBT(nbt);
+        version++;
+        return this;
+    }
+
+    @Override
+    public void setFluid(FluidStack stack) {
+        super.setFluid(stack);
+        version++;
+    }
+
+    @Override
+    protected void onContentsChanged() {
+        version++;
+    }
+}
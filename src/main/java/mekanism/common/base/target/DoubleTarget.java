@@ -0,0 +1,74 @@
+package mekanism.common.base.target;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.Arrays;
+import net.minecraft.util.Direction;
+
+/**
+ * Target for things that get transferred in fractional amounts, such as energy.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ */
+public abstract class DoubleTarget<HANDLER> extends Target<HANDLER> {
+
+    private double[] needed = new double[6];
+    private int[] order = new int[6];
+    private final IntComparator byNeeded = (a, b) -> Double.compare(needed[a], needed[b]);
+
+    @Override
+    protected void grow(int capacity) {
+        super.grow(capacity);
+        needed = Arrays.copyOf(needed, capacity);
+        order = Arrays.copyOf(order, capacity);
+    }
+
+    /**
+     * Splits the given amount fairly between all the handlers. Handlers that want less than their fair share are given what they want first, and what they did not
+     * want is split between the remaining handlers.
+     *
+     * @param amountToSplit The amount to split between the handlers.
+     *
+     * @return The amount that actually got sent.
+     */
+    public double send(double amountToSplit) {
+        for (int i = 0; i < size; i++) {
+            needed[i] = simulate(getHandler(i), sides[i], amountToSplit);
+            order[i] = i;
+        }
+        if (size > 1) {
+            IntArrays.quickSort(order, 0, size, byNeeded);
+        }
+        double sent = 0;
+        double remaining = amountToSplit;
+        for (int i = 0; i < size && remaining > 0; i++) {
+            int index = order[i];
+            //Recalculate the fair share each time, so that anything a handler did not want goes to the ones that want more
+            double amount = Math.min(needed[index], remaining / (size - i));
+            if (amount > 0) {
+                double accepted = accept(getHandler(index), sides[index], amount);
+                sent += accepted;
+                remaining -= accepted;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param amount  The total amount being sent.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract double simulate(HANDLER handler, Direction side, double amount);
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @return The amount that was actually accepted.
+     */
+    protected abstract double accept(HANDLER handler, Direction side, double amount);
+}
@@ -0,0 +1,88 @@
+package mekanism.common.base.target;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.Arrays;
+import net.minecraft.util.Direction;
+
+/**
+ * Target for things that get transferred in whole amounts, such as gases and fluids.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   What is being sent, for example the gas or fluid stack.
+ */
+public abstract class IntegerTarget<HANDLER, EXTRA> extends Target<HANDLER> {
+
+    private int[] needed = new int[6];
+    private int[] order = new int[6];
+    private final IntComparator byNeeded = (a, b) -> Integer.compare(needed[a], needed[b]);
+    protected EXTRA extra;
+
+    protected IntegerTarget(EXTRA extra) {
+        this.extra = extra;
+    }
+
+    /**
+     * Clears this target and sets what the next send will be sending.
+     */
+    public void reset(EXTRA extra) {
+        clear();
+        this.extra = extra;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        super.grow(capacity);
+        needed = Arrays.copyOf(needed, capacity);
+        order = Arrays.copyOf(order, capacity);
+    }
+
+    /**
+     * Splits the given amount fairly between all the handlers. Handlers that want less than their fair share are given what they want first, and what they did not
+     * want is split between the remaining handlers.
+     *
+     * @param amountToSplit The amount to split between the handlers.
+     *
+     * @return The amount that actually got sent.
+     */
+    public int send(int amountToSplit) {
+        for (int i = 0; i < size; i++) {
+            needed[i] = simulate(getHandler(i), sides[i], extra);
+            order[i] = i;
+        }
+        if (size > 1) {
+            IntArrays.quickSort(order, 0, size, byNeeded);
+        }
+        int sent = 0;
+        int remaining = amountToSplit;
+        for (int i = 0; i < size && remaining > 0; i++) {
+            int index = order[i];
+            //Recalculate the fair share each time, so that anything a handler did not want goes to the ones that want more
+            int amount = Math.min(needed[index], remaining / (size - i));
+            if (amount > 0) {
+                int accepted = accept(getHandler(index), sides[index], amount);
+                sent += accepted;
+                remaining -= accepted;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract int simulate(HANDLER handler, Direction side, EXTRA extra);
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @return The amount that was actually accepted.
+     */
+    protected abstract int accept(HANDLER handler, Direction side, int amount);
+}
@@ -84,6 +84,16 @@ public class DefaultGridTransmitter<A, N extends DynamicNetwork<A, N, BUFFER>, B
         return null;
     }
 
+    @Override
+    public IGridTransmitter<A, N, BUFFER> getAdjacentConnectableTransmitter(Direction side) {
+        return null;
+    }
+
+    @Override
+    public IGridTransmitter<A, N, BUFFER> getAdjacentTransmitter(Direction side) {
+        return null;
+    }
+
     @Override
     public A getAcceptor(Direction side) {
         return null;
@@ -139,6 +139,16 @@ public class DefaultLogisticalTransporter implements ILogisticalTransporter {
         return null;
     }
 
+    @Override
+    public IGridTransmitter<TileEntity, InventoryNetwork, Void> getAdjacentConnectableTransmitter(Direction side) {
+        return null;
+    }
+
+    @Override
+    public IGridTransmitter<TileEntity, InventoryNetwork, Void> getAdjacentTransmitter(Direction side) {
+        return null;
+    }
+
     @Override
     public TileEntity getAcceptor(Direction side) {
         return null;
@@ -81,6 +81,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue laserEnergyNeededPerHardness;
     public final CachedBooleanValue voidInvalidGases;
     public final CachedIntValue digitalMinerMaxRadius;
+    public final CachedIntValue digitalMinerSearchThreads;
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedIntValue transmitterUpdateInterval;
     public CachedEnumValue<EnergyType> energyUnit;
     public CachedEnumValue<TempType> tempUnit;
 
@@ -226,6 +229,14 @@ public class GeneralConfig extends BaseMekanismConfig {
         digitalMinerMaxRadius = CachedIntValue.wrap(this, builder.comment("Maximum radius in blocks that the Digital Miner can reach. (Increasing this may have negative effects on stability "
                                                 + "and/or performance. We strongly recommend you leave it at the default value.)")
               .defineInRange("digitalMinerMaxRadius", 32, 1, Integer.MAX_VALUE));
+        digitalMinerSearchThreads = CachedIntValue.wrap(this, builder.comment("Number of threads shared by all Digital Miners for searching for blocks to mine. Searches beyond this get queued.")
+              .worldRestart()
+              .defineInRange("digitalMinerSearchThreads", 2, 1, 64));
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of paths each Logistical Transporter network keeps cached. The least recently used paths get evicted first.")
+              .defineInRange("transporterPathCacheSize", 2_048, 0, Integer.MAX_VALUE));
+        transmitterUpdateInterval = CachedIntValue.wrap(this, builder.comment("Minimum number of ticks between two visual updates of the same transmitter network. Only the "
+                                                                          + "latest update of a network is sent, so higher values reduce network traffic for busy networks.")
+              .defineInRange("transmitterUpdateInterval", 1, 1, 100));
         energyUnit = CachedEnumValue.wrap(this, builder.comment("Displayed energy type in Mekanism GUIs.")
               .defineEnum("energyType", EnergyType.FE));
         tempUnit = CachedEnumValue.wrap(this, builder.comment("Displayed temperature unit in Mekanism GUIs.")
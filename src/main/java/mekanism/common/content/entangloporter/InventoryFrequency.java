@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 import mekanism.api.TileNetworkList;
 import mekanism.api.gas.GasTank;
 import mekanism.api.inventory.slot.IInventorySlot;
+import mekanism.common.base.VersionedFluidTank;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.inventory.slot.InternalInventorySlot;
@@ -17,16 +18,15 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.common.util.Constants.NBT;
-import net.minecraftforge.fluids.capability.templates.FluidTank;
 
 public class InventoryFrequency extends Frequency {
 
     public static final String ENTANGLOPORTER = "Entangloporter";
-    private static final Supplier<FluidTank> FLUID_TANK_SUPPLIER = () -> new FluidTank(MekanismConfig.general.quantumEntangloporterFluidBuffer.get());
+    private static final Supplier<VersionedFluidTank> FLUID_TANK_SUPPLIER = () -> new VersionedFluidTank(MekanismConfig.general.quantumEntangloporterFluidBuffer.get());
     private static final Supplier<GasTank> GAS_TANK_SUPPLIER = () -> new GasTank(MekanismConfig.general.quantumEntangloporterGasBuffer.get());
 
     public double storedEnergy;
-    public FluidTank storedFluid;
+    public VersionedFluidTank storedFluid;
     public GasTank storedGas;
     public double temperature;
 
@@ -36,6 +36,10 @@ public class InventoryFrequency extends Frequency {
     //TODO: FIX INVENTORY PERSISTENCE
     public final List<IInventorySlot> inventorySlots = Collections.singletonList(InternalInventorySlot.create(null));
 
+    private int lastContentsVersion;
+    private double lastEnergy;
+    private double lastTemperature;
+
     public InventoryFrequency(String n, UUID uuid) {
         super(n, uuid);
         storedFluid = FLUID_TANK_SUPPLIER.get();
@@ -44,6 +48,8 @@ public class InventoryFrequency extends Frequency {
 
     public InventoryFrequency(CompoundNBT nbtTags) {
         super(nbtTags);
+        //What we just loaded is what is saved
+        updateContentsChanged();
     }
 
     public InventoryFrequency(PacketBuffer dataStream) {
@@ -98,6 +104,25 @@ public class InventoryFrequency extends Frequency {
         temperature = nbtTags.getDouble("temperature");
     }
 
+    /**
+     * Tiles change the contents of this frequency directly instead of through its manager, so they use this to find out when the manager has to save it again.
+     *
+     * @return {@code true} if the contents changed since this was last called.
+     */
+    public boolean updateContentsChanged() {
+        int version = storedFluid.getVersion() + storedGas.getVersion();
+        for (IInventorySlot slot : inventorySlots) {
+            version += slot.getVersion();
+        }
+        if (version == lastContentsVersion && storedEnergy == lastEnergy && temperature == lastTemperature) {
+            return false;
+        }
+        lastContentsVersion = version;
+        lastEnergy = storedEnergy;
+        lastTemperature = temperature;
+        return true;
+    }
+
     @Override
     public void write(TileNetworkList data) {
         super.write(data);
@@ -110,7 +135,7 @@ public class InventoryFrequency extends Frequency {
     @Override
     protected void read(PacketBuffer dataStream) {
         super.read(dataStream);
-        storedFluid = new FluidTank(FluidTankTier.ULTIMATE.getOutput());
+        storedFluid = new VersionedFluidTank(FluidTankTier.ULTIMATE.getOutput());
         storedGas = new GasTank(GasTankTier.ULTIMATE.getOutput());
         storedEnergy = dataStream.readDouble();
         TileUtils.readTankData(dataStream, storedFluid);
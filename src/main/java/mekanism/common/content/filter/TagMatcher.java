@@ -0,0 +1,115 @@
+package mekanism.common.content.filter;
+
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * The tag name of a tag filter compiled into a matcher. A tag name may be an exact tag, or use {@code *} at its start and/or end as a wildcard. The pattern is only
+ * parsed once, and the result for each item or block is cached until tags get reloaded.
+ *
+ * Block results are looked up from the digital miner's search threads, so they are kept in a concurrent map. Item results are only ever looked up on the server thread.
+ */
+public class TagMatcher {
+
+    private static volatile int reloads;
+
+    private final Mode mode;
+    @Nullable
+    private final ResourceLocation exactTag;
+    private final String fragment;
+
+    private final Reference2BooleanMap<Item> itemResults = new Reference2BooleanOpenHashMap<>();
+    private int itemGeneration = -1;
+    private final Map<Block, Boolean> blockResults = new ConcurrentHashMap<>();
+    private volatile int blockGeneration = -1;
+
+    public TagMatcher(String tagName) {
+        if (tagName.equals("*")) {
+            mode = Mode.ANY;
+            fragment = "";
+        } else if (tagName.startsWith("*") && tagName.endsWith("*")) {
+            mode = Mode.CONTAINS;
+            fragment = tagName.substring(1, tagName.length() - 1);
+        } else if (tagName.startsWith("*")) {
+            mode = Mode.SUFFIX;
+            fragment = tagName.substring(1);
+        } else if (tagName.endsWith("*")) {
+            mode = Mode.PREFIX;
+            fragment = tagName.substring(0, tagName.length() - 1);
+        } else {
+            mode = Mode.EXACT;
+            fragment = tagName;
+        }
+        ResourceLocation tag = mode == Mode.EXACT ? ResourceLocation.tryCreate(tagName) : null;
+        //Tags are compared by their full name, so a name without a namespace can never match
+        exactTag = tag != null && tag.toString().equals(tagName) ? tag : null;
+    }
+
+    /**
+     * Drops the cached results of all matchers, for when tags get synced from the server.
+     */
+    public static void invalidateAll() {
+        reloads++;
+    }
+
+    public boolean matches(Item item) {
+        int generation = ItemTags.getGeneration() + reloads;
+        if (itemGeneration != generation) {
+            itemResults.clear();
+            itemGeneration = generation;
+        }
+        if (itemResults.containsKey(item)) {
+            return itemResults.getBoolean(item);
+        }
+        boolean matches = matches(item.getTags());
+        itemResults.put(item, matches);
+        return matches;
+    }
+
+    public boolean matches(Block block) {
+        int generation = BlockTags.getGeneration() + reloads;
+        if (blockGeneration != generation) {
+            blockResults.clear();
+            blockGeneration = generation;
+        }
+        return blockResults.computeIfAbsent(block, b -> matches(b.getTags()));
+    }
+
+    private boolean matches(Set<ResourceLocation> tags) {
+        if (tags.isEmpty()) {
+            return false;
+        }
+        switch (mode) {
+            case ANY:
+                return true;
+            case EXACT:
+                return exactTag != null && tags.contains(exactTag);
+            default:
+                for (ResourceLocation tag : tags) {
+                    //TODO: How should we handle #
+                    String tagAsString = tag.toString();
+                    if (mode == Mode.PREFIX ? tagAsString.startsWith(fragment) : mode == Mode.SUFFIX ? tagAsString.endsWith(fragment) : tagAsString.contains(fragment)) {
+                        return true;
+                    }
+                }
+                return false;
+        }
+    }
+
+    private enum Mode {
+        ANY,
+        EXACT,
+        PREFIX,
+        SUFFIX,
+        CONTAINS
+    }
+}
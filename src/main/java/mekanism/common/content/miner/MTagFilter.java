@@ -1,43 +1,25 @@
 package mekanism.common.content.miner;
 
-import java.util.Set;
 import mekanism.api.TileNetworkList;
 import mekanism.common.PacketHandler;
 import mekanism.common.content.filter.ITagFilter;
+import mekanism.common.content.filter.TagMatcher;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.util.ResourceLocation;
 
 public class MTagFilter extends MinerFilter<MTagFilter> implements ITagFilter<MTagFilter> {
 
     private String tagName;
+    private volatile TagMatcher matcher;
 
     @Override
     public boolean canFilter(BlockState state) {
-        Set<ResourceLocation> tags = state.getBlock().getTags();
-        if (tags.isEmpty()) {
-            return false;
+        TagMatcher tagMatcher = matcher;
+        if (tagMatcher == null) {
+            matcher = tagMatcher = new TagMatcher(tagName);
         }
-        for (ResourceLocation tag : tags) {
-            String tagAsString = tag.toString();
-            if (tagName.equals(tagAsString) || tagName.equals("*")) {
-                return true;
-            } else if (tagName.endsWith("*") && !tagName.startsWith("*")) {
-                if (tagAsString.startsWith(tagName.substring(0, tagName.length() - 1))) {
-                    return true;
-                }
-            } else if (tagName.startsWith("*") && !tagName.endsWith("*")) {
-                if (tagAsString.endsWith(tagName.substring(1))) {
-                    return true;
-                }
-            } else if (tagName.startsWith("*") && tagName.endsWith("*")) {
-                if (tagAsString.contains(tagName.substring(1, tagName.length() - 1))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return tagMatcher.matches(state.getBlock());
     }
 
     @Override
@@ -51,7 +33,7 @@ public class MTagFilter extends MinerFilter<MTagFilter> implements ITagFilter<MT
     @Override
     protected void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
-        tagName = nbtTags.getString("tagName");
+        setTagName(nbtTags.getString("tagName"));
     }
 
     @Override
@@ -64,7 +46,7 @@ public class MTagFilter extends MinerFilter<MTagFilter> implements ITagFilter<MT
     @Override
     protected void read(PacketBuffer dataStream) {
         super.read(dataStream);
-        tagName = PacketHandler.readString(dataStream);
+        setTagName(PacketHandler.readString(dataStream));
     }
 
     @Override
@@ -91,6 +73,7 @@ public class MTagFilter extends MinerFilter<MTagFilter> implements ITagFilter<MT
     @Override
     public void setTagName(String name) {
         tagName = name;
+        matcher = null;
     }
 
     @Override
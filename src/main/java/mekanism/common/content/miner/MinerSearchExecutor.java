@@ -0,0 +1,66 @@
+package mekanism.common.content.miner;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Shared, size limited pool that runs the searches of all Digital Miners, so that many miners resetting at once do not each spin up their own thread. The pool is
+ * created lazily and shut down when the server stops, so the next world picks up the configured number of threads again.
+ */
+public final class MinerSearchExecutor {
+
+    private static ThreadPoolExecutor executor;
+
+    private MinerSearchExecutor() {
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            int threads = MekanismConfig.general.digitalMinerSearchThreads.get();
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new SearchThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    public static Future<?> submit(Runnable task) {
+        return getExecutor().submit(task);
+    }
+
+    /**
+     * Stops the pool, cancelling any searches that have not started yet. Searches that are running get interrupted, the next search creates a new pool.
+     */
+    public static synchronized void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * @return The number of search tasks that are waiting for a worker.
+     */
+    public static int getQueueDepth() {
+        ThreadPoolExecutor executor = MinerSearchExecutor.executor;
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    private static class SearchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Mekanism Miner Search #" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            //Prefer the server thread over searching
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    }
+}
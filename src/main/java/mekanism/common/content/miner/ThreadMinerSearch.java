@@ -1,12 +1,19 @@
 package mekanism.common.content.miner;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.HashList;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.ILangEntry;
 import mekanism.common.tile.TileEntityBoundingBlock;
@@ -19,22 +26,35 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.Region;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.dimension.DimensionType;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch {
 
     private TileEntityDigitalMiner tile;
 
-    public State state = State.IDLE;
+    public volatile State state = State.IDLE;
 
     private Map<Chunk3D, BitSet> oresToMine = new HashMap<>();
     private Map<Integer, MinerFilter<?>> replaceMap = new HashMap<>();
-    private Map<Block, MinerFilter<?>> acceptedItems = new HashMap<>();
     private DimensionType dimensionType;
     private Region chunkCache;
 
-    public int found = 0;
+    private final List<Future<?>> tasks = new ArrayList<>();
+    private final AtomicInteger remainingTasks = new AtomicInteger();
+    private volatile boolean cancelled;
+    private List<MinerFilter<?>> filters;
+    private long queuedTime;
+    private long startTime;
+
+    public volatile int found = 0;
+    /**
+     * How long the last search took in milliseconds, not including the time it spent queued.
+     */
+    public volatile long searchTime;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
@@ -45,57 +65,127 @@ public class ThreadMinerSearch extends Thread {
         this.dimensionType = dimensionType;
     }
 
-    @Override
-    public void run() {
-        state = State.SEARCHING;
-        HashList<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.inverse && filters.isEmpty()) {
+    /**
+     * Queues the search on the shared {@link MinerSearchExecutor}, split into one task per chunk section of the search area.
+     */
+    public void start() {
+        HashList<MinerFilter<?>> tileFilters = tile.getFilters();
+        if (!tile.inverse && tileFilters.isEmpty()) {
             state = State.FINISHED;
             return;
         }
+        //Copy the filters so that changes to them while we are searching don't cause issues
+        filters = new ArrayList<>();
+        for (MinerFilter<?> filter : tileFilters) {
+            filters.add(filter);
+        }
+        state = State.QUEUED;
+        queuedTime = System.currentTimeMillis();
         Coord4D coord = tile.getStartingCoord();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getPos();
-
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        int height = tile.getTotalSize() / (diameter * diameter);
+        List<Runnable> sectionTasks = new ArrayList<>();
+        for (int minY = 0; minY < height; minY = nextSection(coord.y, minY)) {
+            int maxY = Math.min(nextSection(coord.y, minY), height);
+            for (int minZ = 0; minZ < diameter; minZ = nextSection(coord.z, minZ)) {
+                int maxZ = Math.min(nextSection(coord.z, minZ), diameter);
+                for (int minX = 0; minX < diameter; minX = nextSection(coord.x, minX)) {
+                    int maxX = Math.min(nextSection(coord.x, minX), diameter);
+                    int sectionMinX = minX;
+                    int sectionMinY = minY;
+                    int sectionMinZ = minZ;
+                    sectionTasks.add(() -> searchSection(coord, diameter, sectionMinX, maxX, sectionMinY, maxY, sectionMinZ, maxZ));
+                }
             }
-            int x = coord.x + i % diameter;
-            int z = coord.z + (i / diameter) % diameter;
-            int y = coord.y + (i / diameter / diameter);
-            if (minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
-                //Skip the miner itself
-                continue;
+        }
+        if (sectionTasks.isEmpty()) {
+            startTime = queuedTime;
+            finish();
+            return;
+        }
+        remainingTasks.set(sectionTasks.size());
+        synchronized (tasks) {
+            for (Runnable task : sectionTasks) {
+                tasks.add(MinerSearchExecutor.submit(task));
             }
+        }
+    }
 
-            BlockPos testPos = new BlockPos(x, y, z);
-            //TODO: verify that we don't need to check if the block is loaded. Probably got removed given a region is a cache
-            if (/*!chunkCache.isBlockLoaded(testPos) || */MekanismUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //If it is not loaded or it is a bounding block skip it
-                continue;
+    /**
+     * @param start    Absolute starting coordinate of the search area on the axis.
+     * @param relative Coordinate relative to the start.
+     *
+     * @return The relative coordinate of the start of the next chunk section on the axis.
+     */
+    private static int nextSection(int start, int relative) {
+        return (((start + relative) >> 4) + 1 << 4) - start;
+    }
+
+    /**
+     * Cancels any parts of the search that have not run yet and makes any that are running stop early.
+     */
+    public void cancel() {
+        cancelled = true;
+        synchronized (tasks) {
+            for (Future<?> task : tasks) {
+                task.cancel(false);
             }
+            tasks.clear();
+        }
+        reset();
+    }
 
-            BlockState state = chunkCache.getBlockState(testPos);
-            info = state.getBlock();
+    public boolean isSearching() {
+        return state == State.QUEUED || state == State.SEARCHING;
+    }
 
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock || info.isAir(state, chunkCache, testPos)) {
-                //Skip air and liquids
-                continue;
+    /**
+     * Searches the given part of the search area, all coordinates are relative to the start of the search area and the maximums are exclusive.
+     */
+    private void searchSection(Coord4D coord, int diameter, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        try {
+            if (cancelled || tile.isRemoved()) {
+                //Make sure the miner is still valid and something hasn't gone wrong
+                return;
             }
-
-            if (state.getBlockHardness(chunkCache, testPos) >= 0) {
-                MinerFilter<?> filterFound = null;
+            if (state == State.QUEUED) {
+                state = State.SEARCHING;
+                startTime = System.currentTimeMillis();
+            }
+            int sectionY = coord.y + minY;
+            if (sectionY < 0 || sectionY >= 256) {
+                //Outside of the world, there is nothing to mine
+                return;
+            }
+            IChunk chunk = chunkCache.getChunk((coord.x + minX) >> 4, (coord.z + minZ) >> 4, ChunkStatus.FULL, false);
+            if (chunk == null) {
+                return;
+            }
+            ChunkSection section = chunk.getSections()[sectionY >> 4];
+            if (ChunkSection.isEmpty(section)) {
+                //Skip sections that only contain air
+                return;
+            }
+            BlockPos minerPos = tile.getPos();
+            BlockPos.Mutable testPos = new BlockPos.Mutable(coord.x + minX, sectionY, coord.z + minZ);
+            //First go through the distinct states in the section's palette and find which ones we may want to mine, so that if none of them
+            // match we can skip the section entirely without having to look up the state of each position
+            Reference2ObjectMap<BlockState, MinerFilter<?>> matchingStates = new Reference2ObjectOpenHashMap<>();
+            Map<Block, MinerFilter<?>> acceptedItems = new HashMap<>();
+            section.getData().count((state, count) -> {
+                Block info = state.getBlock();
+                if (cancelled || info instanceof FlowingFluidBlock || info instanceof IFluidBlock || info.isAir(state, chunkCache, testPos)) {
+                    //Skip air and liquids
+                    return;
+                }
+                MinerFilter<?> filterFound;
                 if (acceptedItems.containsKey(info)) {
                     filterFound = acceptedItems.get(info);
                 } else {
-                    ItemStack stack = new ItemStack(info);
-                    if (tile.isReplaceStack(stack)) {
-                        continue;
+                    if (tile.isReplaceStack(new ItemStack(info))) {
+                        return;
                     }
+                    filterFound = null;
                     for (MinerFilter<?> filter : filters) {
                         if (filter.canFilter(state)) {
                             filterFound = filter;
@@ -105,27 +195,77 @@ public class ThreadMinerSearch extends Thread {
                     acceptedItems.put(info, filterFound);
                 }
                 if (tile.inverse == (filterFound == null)) {
-                    set(i, new Coord4D(x, y, z, dimensionType));
-                    replaceMap.put(i, filterFound);
-                    found++;
+                    matchingStates.put(state, filterFound);
+                }
+            });
+            if (matchingStates.isEmpty() || cancelled) {
+                return;
+            }
+
+            BitSet sectionOres = new BitSet();
+            Map<Integer, MinerFilter<?>> sectionReplace = new HashMap<>();
+            for (int relY = minY; relY < maxY; relY++) {
+                if (cancelled) {
+                    return;
+                }
+                int y = coord.y + relY;
+                for (int relZ = minZ; relZ < maxZ; relZ++) {
+                    int z = coord.z + relZ;
+                    for (int relX = minX; relX < maxX; relX++) {
+                        int x = coord.x + relX;
+                        BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                        if (!matchingStates.containsKey(state)) {
+                            continue;
+                        }
+                        if (minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
+                            //Skip the miner itself
+                            continue;
+                        }
+                        testPos.setPos(x, y, z);
+                        //TODO: verify that we don't need to check if the block is loaded. Probably got removed given a region is a cache
+                        if (/*!chunkCache.isBlockLoaded(testPos) || */MekanismUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
+                            //If it is not loaded or it is a bounding block skip it
+                            continue;
+                        }
+                        if (state.getBlockHardness(chunkCache, testPos) >= 0) {
+                            int i = relX + relZ * diameter + relY * diameter * diameter;
+                            sectionOres.set(i);
+                            sectionReplace.put(i, matchingStates.get(state));
+                        }
+                    }
                 }
             }
+            if (!sectionOres.isEmpty()) {
+                Chunk3D chunk3D = new Chunk3D(chunk.getPos().x, chunk.getPos().z, dimensionType);
+                synchronized (this) {
+                    oresToMine.computeIfAbsent(chunk3D, k -> new BitSet()).or(sectionOres);
+                    replaceMap.putAll(sectionReplace);
+                    found += sectionOres.cardinality();
+                }
+            }
+        } catch (Exception e) {
+            Mekanism.logger.error("Error while searching for blocks to mine for Digital Miner at {}", tile.getPos(), e);
+        } finally {
+            if (remainingTasks.decrementAndGet() == 0 && !cancelled) {
+                finish();
+            }
         }
+    }
 
-        state = State.FINISHED;
+    private void finish() {
+        long now = System.currentTimeMillis();
+        searchTime = now - startTime;
+        Mekanism.logger.debug("Digital Miner at {} found {} blocks in {} ms after being queued for {} ms. {} search tasks still queued.", tile.getPos(), found, searchTime,
+              startTime - queuedTime, MinerSearchExecutor.getQueueDepth());
         tile.oresToMine = oresToMine;
         tile.replaceMap = replaceMap;
         chunkCache = null;
         dimensionType = null;
+        //Only publish that we are finished once the results are in place, so that the miner never sees the state without them
+        state = State.FINISHED;
         MekanismUtils.saveChunk(tile);
     }
 
-    public void set(int i, Coord4D location) {
-        Chunk3D chunk = new Chunk3D(location);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
-    }
-
     public void reset() {
         state = State.IDLE;
         chunkCache = null;
@@ -136,7 +276,8 @@ public class ThreadMinerSearch extends Thread {
         IDLE(MekanismLang.MINER_IDLE),
         SEARCHING(MekanismLang.MINER_SEARCHING),
         PAUSED(MekanismLang.MINER_PAUSED),
-        FINISHED(MekanismLang.MINER_READY);
+        FINISHED(MekanismLang.MINER_READY),
+        QUEUED(MekanismLang.MINER_QUEUED);
 
         private final ILangEntry langEntry;
 
@@ -1,12 +1,11 @@
 package mekanism.common.content.transporter;
 
-import java.util.Set;
+import mekanism.common.content.filter.TagMatcher;
 import mekanism.common.util.ItemRegistryUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.ResourceLocation;
 
 public abstract class Finder {
 
@@ -23,37 +22,16 @@ public abstract class Finder {
     public static class TagFinder extends Finder {
 
         public final String tagName;
+        private final TagMatcher matcher;
 
         public TagFinder(String name) {
             tagName = name;
+            matcher = new TagMatcher(name);
         }
 
         @Override
         public boolean modifies(ItemStack stack) {
-            Set<ResourceLocation> tags = stack.getItem().getTags();
-            if (tags.isEmpty()) {
-                return false;
-            }
-            for (ResourceLocation tag : tags) {
-                //TODO: How should we handle #
-                String tagAsString = tag.toString();
-                if (tagName.equals(tagAsString) || tagName.equals("*")) {
-                    return true;
-                } else if (tagName.endsWith("*") && !tagName.startsWith("*")) {
-                    if (tagAsString.startsWith(tagName.substring(0, tagName.length() - 1))) {
-                        return true;
-                    }
-                } else if (tagName.startsWith("*") && !tagName.endsWith("*")) {
-                    if (tagAsString.endsWith(tagName.substring(1))) {
-                        return true;
-                    }
-                } else if (tagName.startsWith("*") && tagName.endsWith("*")) {
-                    if (tagAsString.contains(tagName.substring(1, tagName.length() - 1))) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return matcher.matches(stack.getItem());
         }
     }
 
@@ -1,8 +1,6 @@
 package mekanism.common.content.transporter;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Arrays;
 import mekanism.common.Mekanism;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
@@ -26,10 +24,12 @@ public final class InvStack {
     private final Direction side;
 
     /**
-     * A map associating the slot IDs in consideration to the amount of items in those slots we care about. Note that the associated item counts may not be the full count
-     * of items in the actual inventory slots.
+     * The slot IDs in consideration and the amount of items in those slots we care about. Note that the item counts may not be the full count of items in the actual
+     * inventory slots.
      */
-    private Map<Integer, Integer> itemMap = new HashMap<>();
+    private int[] slots;
+    private int[] amounts;
+    private int slotCount;
 
     /** The item type of this InvStack. Will be null until we have an insertion via appendStack. */
     private HashedItem itemType;
@@ -40,18 +40,29 @@ public final class InvStack {
     public InvStack(TileEntity inv, Direction facing) {
         tile = inv;
         side = facing;
+        slots = new int[1];
+        amounts = new int[1];
     }
 
     public InvStack(TileEntity inv, int slotID, ItemStack stack, Direction facing) {
-        this(inv, stack, getMap(slotID, stack), facing);
+        this(inv, facing);
+        appendStack(slotID, stack);
     }
 
-    public InvStack(TileEntity inv, ItemStack stack, Map<Integer, Integer> idMap, Direction facing) {
+    /**
+     * Creates an InvStack tracking the given slots, the arrays are used as is and must not be modified afterwards.
+     */
+    public InvStack(TileEntity inv, ItemStack stack, int[] slots, int[] amounts, int slotCount, Direction facing) {
         tile = inv;
         side = facing;
-        itemMap = idMap;
-        for (Entry<Integer, Integer> entry : idMap.entrySet()) {
-            appendStack(entry.getKey(), StackUtils.size(stack, entry.getValue()));
+        this.slots = slots;
+        this.amounts = amounts;
+        this.slotCount = slotCount;
+        if (slotCount > 0) {
+            itemType = new HashedItem(stack.copy());
+        }
+        for (int i = 0; i < slotCount; i++) {
+            itemCount += amounts[i];
         }
     }
 
@@ -77,7 +88,12 @@ public final class InvStack {
         if (itemType == null) {
             itemType = new HashedItem(stack);
         }
-        itemMap.put(id, stack.getCount());
+        if (slotCount == slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(1, slotCount * 2));
+            amounts = Arrays.copyOf(amounts, slots.length);
+        }
+        slots[slotCount] = id;
+        amounts[slotCount++] = stack.getCount();
         itemCount += stack.getCount();
     }
 
@@ -91,9 +107,9 @@ public final class InvStack {
             return;
         }
         IItemHandler handler = InventoryUtils.getItemHandler(tile, side);
-        for (Entry<Integer, Integer> entry : itemMap.entrySet()) {
-            int toUse = Math.min(amount, entry.getValue());
-            ItemStack ret = handler.extractItem(entry.getKey(), toUse, false);
+        for (int i = 0; i < slotCount; i++) {
+            int toUse = Math.min(amount, amounts[i]);
+            ItemStack ret = handler.extractItem(slots[i], toUse, false);
             boolean stackable = InventoryUtils.areItemsStackable(itemType.getStack(), ret);
             if (!stackable || ret.getCount() != toUse) { // be loud if an InvStack's prediction doesn't line up
                 Mekanism.logger.warn("An inventory's returned content " + (!stackable ? "type" : "count") + " does not line up with InvStack's prediction.");
@@ -114,10 +130,4 @@ public final class InvStack {
     public void use() {
         use(getStack().getCount());
     }
-
-    private static Map<Integer, Integer> getMap(int slotID, ItemStack stack) {
-        Map<Integer, Integer> map = new HashMap<>();
-        map.put(slotID, stack.getCount());
-        return map;
-    }
 }
\ No newline at end of file
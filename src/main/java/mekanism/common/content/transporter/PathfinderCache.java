@@ -1,25 +1,76 @@
 package mekanism.common.content.transporter;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.api.Coord4D;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 
+/**
+ * Cache of the paths found by the {@link TransporterPathfinder}. Each {@link mekanism.common.transmitters.grid.InventoryNetwork} owns its own cache, and cached paths
+ * are indexed by the positions they pass through so that a change to a transporter only evicts the paths that are actually affected by it.
+ */
 public class PathfinderCache {
 
-    private static Map<PathData, List<Coord4D>> cachedPaths = new HashMap<>();
+    /**
+     * Cached paths in least recently used order.
+     */
+    private final Map<PathData, List<Coord4D>> cachedPaths = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<Coord4D, Set<PathData>> pathsByLocation = new HashMap<>();
 
-    public static void onChanged(Coord4D location) {
-        reset();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Evicts all cached paths that go through the given location.
+     */
+    public void onChanged(Coord4D location) {
+        Set<PathData> paths = pathsByLocation.remove(location);
+        if (paths != null) {
+            for (PathData data : paths) {
+                removePath(data, true);
+            }
+        }
     }
 
-    public static void addCachedPath(PathData data, List<Coord4D> coords) {
+    /**
+     * Evicts all cached paths that go through the given location or one of its neighbors, as those are the paths that may be able to take a shorter route through a newly
+     * added transporter.
+     */
+    public void onAdded(Coord4D location) {
+        onChanged(location);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            onChanged(location.offset(side));
+        }
+    }
+
+    public void addCachedPath(PathData data, List<Coord4D> coords) {
+        removePath(data, false);
         cachedPaths.put(data, coords);
+        for (Coord4D coord : coords) {
+            pathsByLocation.computeIfAbsent(coord, c -> new HashSet<>()).add(data);
+        }
+        int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+        if (cachedPaths.size() > maxSize) {
+            Iterator<Entry<PathData, List<Coord4D>>> iterator = cachedPaths.entrySet().iterator();
+            while (cachedPaths.size() > maxSize && iterator.hasNext()) {
+                Entry<PathData, List<Coord4D>> eldest = iterator.next();
+                iterator.remove();
+                unindex(eldest.getKey(), eldest.getValue());
+                evictions++;
+            }
+        }
     }
 
-    public static List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
+    public List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
         List<Coord4D> ret = null;
         for (Direction side : sides) {
             List<Coord4D> test = cachedPaths.get(new PathData(start, end, side));
@@ -27,11 +78,55 @@ public class PathfinderCache {
                 ret = test;
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
-    public static void reset() {
+    private void removePath(PathData data, boolean evicted) {
+        List<Coord4D> path = cachedPaths.remove(data);
+        if (path != null) {
+            unindex(data, path);
+            if (evicted) {
+                evictions++;
+            }
+        }
+    }
+
+    private void unindex(PathData data, List<Coord4D> path) {
+        for (Coord4D coord : path) {
+            Set<PathData> paths = pathsByLocation.get(coord);
+            if (paths != null) {
+                paths.remove(data);
+                if (paths.isEmpty()) {
+                    pathsByLocation.remove(coord);
+                }
+            }
+        }
+    }
+
+    public void reset() {
         cachedPaths.clear();
+        pathsByLocation.clear();
+    }
+
+    public int size() {
+        return cachedPaths.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
     }
 
     public static class PathData {
@@ -11,6 +11,7 @@ import net.minecraft.network.PacketBuffer;
 public class TTagFilter extends TransporterFilter<TTagFilter> implements ITagFilter<TTagFilter> {
 
     private String tagName;
+    private TagFinder finder;
 
     @Override
     public boolean canFilter(ItemStack itemStack, boolean strict) {
@@ -19,7 +20,10 @@ public class TTagFilter extends TransporterFilter<TTagFilter> implements ITagFil
 
     @Override
     public Finder getFinder() {
-        return new TagFinder(tagName);
+        if (finder == null || !finder.tagName.equals(tagName)) {
+            finder = new TagFinder(tagName);
+        }
+        return finder;
     }
 
     @Override
@@ -1,160 +1,285 @@
-package mekanism.common.content.transporter;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import mekanism.common.content.transporter.Finder.FirstFinder;
-import mekanism.common.util.InventoryUtils;
-import mekanism.common.util.StackUtils;
-import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
-import net.minecraftforge.items.IItemHandler;
-import org.apache.commons.lang3.tuple.Pair;
-
-public class TransitRequest {
-
-    /**
-     * Complicated map- associates item types with both total available item count and slot IDs and available item amounts for each slot.
-     */
-    private Map<HashedItem, Pair<Integer, Map<Integer, Integer>>> itemMap = new HashMap<>();
-
-    public static TransitRequest getFromTransport(TransporterStack stack) {
-        return getFromStack(stack.itemStack);
-    }
-
-    public static TransitRequest getFromStack(ItemStack stack) {
-        TransitRequest ret = new TransitRequest();
-        ret.addItem(stack, -1);
-        return ret;
-    }
-
-    public static TransitRequest buildInventoryMap(TileEntity tile, Direction side, int amount) {
-        return buildInventoryMap(tile, side, amount, new FirstFinder());
-    }
-
-    /**
-     * Creates a TransitRequest based on a full inspection of an entire specified inventory from a given side. The algorithm will use the specified Finder to ensure the
-     * resulting map will only capture desired items. The amount of each item type present in the resulting item type will cap at the given 'amount' parameter.
-     *
-     * @param side - the side from an adjacent connected inventory, *not* the inventory itself.
-     */
-    public static TransitRequest buildInventoryMap(TileEntity tile, Direction side, int amount, Finder finder) {
-        TransitRequest ret = new TransitRequest();
-        // so we can keep track of how many of each item type we have in this inventory mapping
-        Map<HashedItem, Integer> itemCountMap = new HashMap<>();
-
-        if (!InventoryUtils.assertItemHandler("TransitRequest", tile, side.getOpposite())) {
-            return ret;
-        }
-
-        IItemHandler inventory = InventoryUtils.getItemHandler(tile, side.getOpposite());
-
-        // count backwards- we start from the bottom of the inventory and go back for consistency
-        for (int i = inventory.getSlots() - 1; i >= 0; i--) {
-            ItemStack stack = inventory.extractItem(i, amount, true);
-
-            if (!stack.isEmpty() && finder.modifies(stack)) {
-                HashedItem hashed = new HashedItem(stack);
-                int currentCount = itemCountMap.getOrDefault(hashed, -1);
-                int toUse = currentCount != -1 ? Math.min(stack.getCount(), amount - currentCount) : stack.getCount();
-                if (toUse == 0) {
-                    continue; // continue if we don't need anymore of this item type
-                }
-                ret.addItem(StackUtils.size(stack, toUse), i);
-
-                if (currentCount != -1) {
-                    itemCountMap.put(hashed, currentCount + toUse);
-                } else {
-                    itemCountMap.put(hashed, toUse);
-                }
-            }
-        }
-
-        return ret;
-    }
-
-    public Map<HashedItem, Pair<Integer, Map<Integer, Integer>>> getItemMap() {
-        return itemMap;
-    }
-
-    public boolean isEmpty() {
-        return itemMap.isEmpty();
-    }
-
-    public void addItem(ItemStack stack, int slot) {
-        HashedItem hashed = new HashedItem(stack);
-        if (!itemMap.containsKey(hashed)) {
-            Map<Integer, Integer> slotMap = new HashMap<>();
-            slotMap.put(slot, stack.getCount());
-            itemMap.put(hashed, Pair.of(stack.getCount(), slotMap));
-        } else {
-            Pair<Integer, Map<Integer, Integer>> itemInfo = itemMap.get(hashed);
-            int count = itemInfo.getLeft() + stack.getCount();
-            Map<Integer, Integer> slotMap = itemInfo.getRight();
-            slotMap.put(slot, stack.getCount());
-            itemMap.put(hashed, Pair.of(count, slotMap));
-        }
-    }
-
-    public ItemStack getSingleStack() {
-        return itemMap.keySet().iterator().next().getStack();
-    }
-
-    public boolean hasType(ItemStack stack) {
-        return itemMap.keySet().stream().anyMatch(item -> InventoryUtils.areItemsStackable(stack, item.getStack()));
-    }
-
-    /**
-     * A TransitResponse contains information regarding the partial ItemStacks which were allowed entry into a destination inventory. Note that a TransitResponse should
-     * only contain a single item type, although it may be spread out across multiple slots.
-     *
-     * @author aidancbrady
-     */
-    public static class TransitResponse {
-
-        public static final TransitResponse EMPTY = new TransitResponse();
-
-        /** slot ID to item count map - this details how many items we will be pulling from each slot */
-        private Map<Integer, Integer> idMap = new HashMap<>();
-        private ItemStack toSend = ItemStack.EMPTY;
-
-        private TransitResponse() {
-        }
-
-        public TransitResponse(ItemStack i, Map<Integer, Integer> slots) {
-            toSend = i;
-
-            // generate our ID/ItemStack map based on the amount of items we're sending
-            int amount = getSendingAmount();
-            for (Entry<Integer, Integer> entry : slots.entrySet()) {
-                int toUse = Math.min(amount, entry.getValue());
-                idMap.put(entry.getKey(), toUse);
-                amount -= toUse;
-                if (amount == 0) {
-                    break;
-                }
-            }
-        }
-
-        public ItemStack getStack() {
-            return toSend;
-        }
-
-        public int getSendingAmount() {
-            return toSend.getCount();
-        }
-
-        public boolean isEmpty() {
-            return this == EMPTY || idMap.isEmpty() || (toSend != null && toSend.isEmpty());
-        }
-
-        public ItemStack getRejected(ItemStack orig) {
-            return StackUtils.size(orig, orig.getCount() - getSendingAmount());
-        }
-
-        public InvStack getInvStack(TileEntity tile, Direction side) {
-            return new InvStack(tile, toSend, idMap, side);
-        }
-    }
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Arrays;
+import mekanism.common.content.transporter.Finder.FirstFinder;
+import mekanism.common.util.InventoryUtils;
+import mekanism.common.util.StackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraftforge.items.IItemHandler;
+
+/**
+ * The items an inventory offers to send somewhere, grouped by item type. Each type keeps its total count and the slots it is spread over, with the amount available in
+ * each of them, in plain int arrays. Types are looked up through an open addressed table that maps them to their index.
+ *
+ * A request can be {@link #clear() cleared} and filled again, so tiles that build one every time they output can keep a single instance around instead of allocating a
+ * new one each time.
+ */
+public class TransitRequest {
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final Object2IntOpenHashMap<HashedItem> typeIndices = new Object2IntOpenHashMap<>();
+    private HashedItem[] types = new HashedItem[2];
+    private int[] totals = new int[2];
+    private int[][] slots = new int[2][];
+    private int[][] amounts = new int[2][];
+    private int[] slotCounts = new int[2];
+    private int typeCount;
+
+    public TransitRequest() {
+        typeIndices.defaultReturnValue(-1);
+    }
+
+    public static TransitRequest getFromTransport(TransporterStack stack) {
+        return getFromStack(stack.itemStack);
+    }
+
+    public static TransitRequest getFromStack(ItemStack stack) {
+        TransitRequest ret = new TransitRequest();
+        ret.addItem(stack, -1);
+        return ret;
+    }
+
+    public static TransitRequest buildInventoryMap(TileEntity tile, Direction side, int amount) {
+        return new TransitRequest().readInventory(tile, side, amount, new FirstFinder());
+    }
+
+    public static TransitRequest buildInventoryMap(TileEntity tile, Direction side, int amount, Finder finder) {
+        return new TransitRequest().readInventory(tile, side, amount, finder);
+    }
+
+    /**
+     * Replaces the contents of this request with a full inspection of an entire specified inventory from a given side. The algorithm will use the specified Finder to
+     * ensure the resulting request will only capture desired items. The amount of each item type present in the resulting request will cap at the given 'amount'
+     * parameter.
+     *
+     * @param side - the side from an adjacent connected inventory, *not* the inventory itself.
+     *
+     * @return this request
+     */
+    public TransitRequest readInventory(TileEntity tile, Direction side, int amount, Finder finder) {
+        clear();
+        if (!InventoryUtils.assertItemHandler("TransitRequest", tile, side.getOpposite())) {
+            return this;
+        }
+
+        IItemHandler inventory = InventoryUtils.getItemHandler(tile, side.getOpposite());
+
+        // count backwards- we start from the bottom of the inventory and go back for consistency
+        for (int i = inventory.getSlots() - 1; i >= 0; i--) {
+            ItemStack stack = inventory.extractItem(i, amount, true);
+
+            if (!stack.isEmpty() && finder.modifies(stack)) {
+                int index = typeIndices.getInt(new HashedItem(stack));
+                // the totals already tell us how many of each item type we have in this inventory mapping
+                int toUse = index == -1 ? stack.getCount() : Math.min(stack.getCount(), amount - totals[index]);
+                if (toUse == 0) {
+                    continue; // continue if we don't need anymore of this item type
+                }
+                addSlot(index == -1 ? addType(stack) : index, i, toUse);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Removes everything from this request, keeping the arrays around to be filled again.
+     */
+    public void clear() {
+        typeIndices.clear();
+        Arrays.fill(types, 0, typeCount, null);
+        typeCount = 0;
+    }
+
+    public boolean isEmpty() {
+        return typeCount == 0;
+    }
+
+    /**
+     * @return The number of different item types in this request.
+     */
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+    public HashedItem getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * @return The total amount of the item type at the given index over all its slots.
+     */
+    public int getTotal(int index) {
+        return totals[index];
+    }
+
+    public void addItem(ItemStack stack, int slot) {
+        int index = typeIndices.getInt(new HashedItem(stack));
+        addSlot(index == -1 ? addType(stack) : index, slot, stack.getCount());
+    }
+
+    private int addType(ItemStack stack) {
+        if (typeCount == types.length) {
+            int length = typeCount * 2;
+            types = Arrays.copyOf(types, length);
+            totals = Arrays.copyOf(totals, length);
+            slots = Arrays.copyOf(slots, length);
+            amounts = Arrays.copyOf(amounts, length);
+            slotCounts = Arrays.copyOf(slotCounts, length);
+        }
+        int index = typeCount++;
+        //Copy the stack so that the type stays valid if the slot it came from gets emptied while this request is still in use
+        types[index] = new HashedItem(stack.copy());
+        totals[index] = 0;
+        slotCounts[index] = 0;
+        if (slots[index] == null) {
+            slots[index] = new int[4];
+            amounts[index] = new int[4];
+        }
+        typeIndices.put(types[index], index);
+        return index;
+    }
+
+    private void addSlot(int index, int slot, int count) {
+        int slotIndex = slotCounts[index]++;
+        if (slotIndex == slots[index].length) {
+            slots[index] = Arrays.copyOf(slots[index], slotIndex * 2);
+            amounts[index] = Arrays.copyOf(amounts[index], slotIndex * 2);
+        }
+        slots[index][slotIndex] = slot;
+        amounts[index][slotIndex] = count;
+        totals[index] += count;
+    }
+
+    /**
+     * Removes the items that were sent by the given response from this request, so that it can be used to send what is left without having to inspect the source
+     * inventory again.
+     */
+    public void shrink(TransitResponse response) {
+        int index = response.type == null ? -1 : typeIndices.getInt(response.type);
+        if (index == -1) {
+            return;
+        }
+        int[] typeSlots = slots[index];
+        int[] typeAmounts = amounts[index];
+        for (int i = 0; i < response.slotCount; i++) {
+            for (int j = 0; j < slotCounts[index]; j++) {
+                if (typeSlots[j] == response.slots[i]) {
+                    int removed = Math.min(response.amounts[i], typeAmounts[j]);
+                    typeAmounts[j] -= removed;
+                    totals[index] -= removed;
+                    if (typeAmounts[j] == 0) {
+                        int remaining = --slotCounts[index] - j;
+                        System.arraycopy(typeSlots, j + 1, typeSlots, j, remaining);
+                        System.arraycopy(typeAmounts, j + 1, typeAmounts, j, remaining);
+                    }
+                    break;
+                }
+            }
+        }
+        if (totals[index] <= 0) {
+            removeType(index);
+        }
+    }
+
+    private void removeType(int index) {
+        typeIndices.removeInt(types[index]);
+        //Keep the slot arrays of the removed type around so they can be reused
+        int[] removedSlots = slots[index];
+        int[] removedAmounts = amounts[index];
+        int remaining = --typeCount - index;
+        System.arraycopy(types, index + 1, types, index, remaining);
+        System.arraycopy(totals, index + 1, totals, index, remaining);
+        System.arraycopy(slots, index + 1, slots, index, remaining);
+        System.arraycopy(amounts, index + 1, amounts, index, remaining);
+        System.arraycopy(slotCounts, index + 1, slotCounts, index, remaining);
+        types[typeCount] = null;
+        slots[typeCount] = removedSlots;
+        amounts[typeCount] = removedAmounts;
+        for (int i = index; i < typeCount; i++) {
+            typeIndices.put(types[i], i);
+        }
+    }
+
+    public ItemStack getSingleStack() {
+        return types[0].getStack();
+    }
+
+    public boolean hasType(ItemStack stack) {
+        for (int i = 0; i < typeCount; i++) {
+            if (InventoryUtils.areItemsStackable(stack, types[i].getStack())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a response for sending the given stack, which has to be of the item type at the given index, taking the items from the slots of that type in order.
+     */
+    public TransitResponse createResponse(int index, ItemStack toSend) {
+        int amount = toSend.getCount();
+        int slotCount = slotCounts[index];
+        int[] responseSlots = new int[slotCount];
+        int[] responseAmounts = new int[slotCount];
+        int used = 0;
+        // generate our slot/amount arrays based on the amount of items we're sending
+        while (amount > 0 && used < slotCount) {
+            int toUse = Math.min(amount, amounts[index][used]);
+            responseSlots[used] = slots[index][used];
+            responseAmounts[used] = toUse;
+            amount -= toUse;
+            used++;
+        }
+        return new TransitResponse(toSend, types[index], responseSlots, responseAmounts, used);
+    }
+
+    /**
+     * A TransitResponse contains information regarding the partial ItemStacks which were allowed entry into a destination inventory. Note that a TransitResponse should
+     * only contain a single item type, although it may be spread out across multiple slots.
+     *
+     * @author aidancbrady
+     */
+    public static class TransitResponse {
+
+        public static final TransitResponse EMPTY = new TransitResponse(ItemStack.EMPTY, null, NO_SLOTS, NO_SLOTS, 0);
+
+        private final ItemStack toSend;
+        private final HashedItem type;
+        /** slot IDs and matching item counts - this details how many items we will be pulling from each slot */
+        private final int[] slots;
+        private final int[] amounts;
+        private final int slotCount;
+
+        private TransitResponse(ItemStack toSend, HashedItem type, int[] slots, int[] amounts, int slotCount) {
+            this.toSend = toSend;
+            this.type = type;
+            this.slots = slots;
+            this.amounts = amounts;
+            this.slotCount = slotCount;
+        }
+
+        public ItemStack getStack() {
+            return toSend;
+        }
+
+        public int getSendingAmount() {
+            return toSend.getCount();
+        }
+
+        public boolean isEmpty() {
+            return this == EMPTY || slotCount == 0 || toSend.isEmpty();
+        }
+
+        public ItemStack getRejected(ItemStack orig) {
+            return StackUtils.size(orig, orig.getCount() - getSendingAmount());
+        }
+
+        public InvStack getInvStack(TileEntity tile, Direction side) {
+            return new InvStack(tile, toSend, slots, amounts, slotCount, side);
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package mekanism.common.content.transporter;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.api.Coord4D;
 import mekanism.api.RelativeSide;
@@ -14,30 +12,35 @@ import mekanism.common.Mekanism;
 import mekanism.common.base.ISideConfiguration;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
-import net.minecraft.util.NonNullList;
 import net.minecraftforge.items.IItemHandler;
-import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterManager {
 
-    private static Map<Coord4D, Set<TransporterStack>> flowingStacks = new HashMap<>();
+    private static Map<Coord4D, DestinationLedger> flowingStacks = new HashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
     }
 
     public static void add(TransporterStack stack) {
-        flowingStacks.computeIfAbsent(stack.getDest(), k -> new HashSet<>()).add(stack);
+        flowingStacks.computeIfAbsent(stack.getDest(), k -> new DestinationLedger()).add(stack);
     }
 
     public static void remove(TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(stack.getDest()).remove(stack);
+            DestinationLedger ledger = flowingStacks.get(stack.getDest());
+            if (ledger != null) {
+                ledger.remove(stack);
+                if (ledger.stacks.isEmpty()) {
+                    flowingStacks.remove(stack.getDest());
+                }
+            }
         }
     }
 
@@ -75,10 +78,10 @@ public class TransporterManager {
             // how the inventory would look after the insertion
 
             // Number of items in the destination
-            int destCount = inventoryInfo.stackSizes.get(i);
+            int destCount = inventoryInfo.stackSizes[i];
 
             // If the destination isn't empty and not stackable, move along
-            if (destCount > 0 && !InventoryUtils.areItemsStackable(inventoryInfo.inventory.get(i), stack)) {
+            if (destCount > 0 && !InventoryUtils.areItemsStackable(inventoryInfo.inventory[i], stack)) {
                 continue;
             }
 
@@ -93,12 +96,12 @@ public class TransporterManager {
             int mergedCount = count + destCount;
             if (mergedCount > max) {
                 // Not all the items will fit; put max in and save leftovers
-                inventoryInfo.stackSizes.set(i, max);
+                inventoryInfo.stackSizes[i] = max;
                 count = mergedCount - max;
                 stack.setCount(count);
             } else {
                 // All items will fit; set the destination count as the new combined amount
-                inventoryInfo.stackSizes.set(i, mergedCount);
+                inventoryInfo.stackSizes[i] = mergedCount;
                 if (count != originalCount) {
                     //Set the stack size back to what it was when we got it
                     stack.setCount(originalCount);
@@ -146,38 +149,30 @@ public class TransporterManager {
             return TransitResponse.EMPTY;
         }
 
-        // Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, that we can fail fast.
-
-        //Information about the inventory, keeps track of the size of a stack a slot will have, and
-        // a cache of what getStackInSlot returns (as it has to call it anyways to get the stack size).
-        // This cache allows potentially expensive getStackInSlot implementations to only have to be called
-        // once instead of potentially many times.
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
-
-        //For each of the in-flight stacks, simulate their insert into the tile entity. Note that stackSizes
-        // for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(Coord4D.get(tile));
-        if (transporterStacks != null) {
-            for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    if (simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount()) > 0) {
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return TransitResponse.EMPTY;
-                    }
-                }
+        // Before we see if this item can fit in the destination, we must first account for the stacks that are
+        // en-route. The ledger for the destination keeps a projection of how the inventory will look once all
+        // the in-flight stacks arrive, so we only have to rebuild it if the inventory or the in-flight stacks
+        // changed since it was last calculated. If any in-flight stack can't be inserted, we can fail fast.
+        InventoryInfo inventoryInfo;
+        DestinationLedger ledger = flowingStacks.get(Coord4D.get(tile));
+        if (ledger == null) {
+            inventoryInfo = new InventoryInfo(handler);
+        } else {
+            Projection projection = ledger.getProjection(tile, side, handler);
+            if (projection.blocked) {
+                // Failed to successfully insert an in-flight item; there's no room for anyone else
+                return TransitResponse.EMPTY;
             }
+            inventoryInfo = projection.copy();
         }
 
         // Now for each of the items in the request, simulate the insert, using the state from all the in-flight
         // items to ensure we have an accurate model of what will happen in future. We try each stack in the
         // request; it might be possible to not send the first item, but the second could work, etc.
-        for (Entry<HashedItem, Pair<Integer, Map<Integer, Integer>>> requestEntry : request.getItemMap().entrySet()) {
+        for (int index = 0; index < request.getTypeCount(); index++) {
             // Create a sending ItemStack with the hashed item type and total item count within the request
-            ItemStack stack = requestEntry.getKey().getStack();
-            int numToSend = requestEntry.getValue().getLeft();
+            ItemStack stack = request.getType(index).getStack();
+            int numToSend = request.getTotal(index);
             //Directly pass the stack AND the actual amount we want, so that it does not need to copy the stack if there is no room
             int numLeftOver = simulateInsert(handler, inventoryInfo, stack, numToSend);
 
@@ -187,23 +182,120 @@ public class TransporterManager {
             }
 
             // Otherwise, construct the appropriately size stack to send and return that
-            return new TransitResponse(StackUtils.size(stack, numToSend - numLeftOver), requestEntry.getValue().getRight());
+            return request.createResponse(index, StackUtils.size(stack, numToSend - numLeftOver));
         }
         return TransitResponse.EMPTY;
     }
 
     private static class InventoryInfo {
 
-        public NonNullList<ItemStack> inventory;
-        public List<Integer> stackSizes = new ArrayList<>();
+        public final ItemStack[] inventory;
+        public final int[] stackSizes;
 
         public InventoryInfo(IItemHandler handler) {
-            inventory = NonNullList.withSize(handler.getSlots(), ItemStack.EMPTY);
-            for (int i = 0; i < handler.getSlots(); i++) {
+            inventory = new ItemStack[handler.getSlots()];
+            stackSizes = new int[inventory.length];
+            for (int i = 0; i < inventory.length; i++) {
                 ItemStack stack = handler.getStackInSlot(i);
-                inventory.set(i, stack);
-                stackSizes.add(stack.getCount());
+                inventory[i] = stack;
+                stackSizes[i] = stack.getCount();
+            }
+        }
+
+        private InventoryInfo(ItemStack[] inventory, int[] stackSizes) {
+            this.inventory = inventory;
+            this.stackSizes = stackSizes;
+        }
+
+        public InventoryInfo copy() {
+            return new InventoryInfo(inventory, stackSizes.clone());
+        }
+    }
+
+    /**
+     * Projection of the contents of a destination inventory, from one side, once all the stacks currently in flight towards it have been inserted.
+     */
+    private static class Projection extends InventoryInfo {
+
+        /**
+         * The stack sizes the inventory had when this projection was calculated, used to detect if the contents have changed since.
+         */
+        private final int[] baseSizes;
+        private final TileEntity tile;
+        private IItemHandler handler;
+        private boolean blocked;
+
+        private Projection(TileEntity tile, IItemHandler handler) {
+            super(handler);
+            this.tile = tile;
+            this.handler = handler;
+            baseSizes = stackSizes.clone();
+        }
+
+        private boolean matches(TileEntity tile, IItemHandler handler) {
+            if (this.tile != tile || handler.getSlots() != inventory.length) {
+                return false;
+            }
+            for (int i = 0; i < inventory.length; i++) {
+                ItemStack stack = handler.getStackInSlot(i);
+                ItemStack cached = inventory[i];
+                if (stack == cached ? stack.getCount() != baseSizes[i] : !ItemStack.areItemStacksEqual(stack, cached)) {
+                    return false;
+                }
+            }
+            this.handler = handler;
+            return true;
+        }
+
+        private void insert(TransporterStack stack) {
+            if (!blocked && simulateInsert(handler, this, stack.itemStack, stack.itemStack.getCount()) > 0) {
+                blocked = true;
+            }
+        }
+    }
+
+    /**
+     * Keeps track of the stacks in flight towards a destination, and the projected contents of the destination once they arrive.
+     */
+    private static class DestinationLedger {
+
+        private final Set<TransporterStack> stacks = new HashSet<>();
+        private final Projection[] projections = new Projection[EnumUtils.DIRECTIONS.length];
+
+        private void add(TransporterStack stack) {
+            if (stacks.add(stack)) {
+                //Apply the new stack to any projections we have, rather than having to replay all the stacks again
+                for (Projection projection : projections) {
+                    if (projection != null) {
+                        projection.insert(stack);
+                    }
+                }
+            }
+        }
+
+        private void remove(TransporterStack stack) {
+            if (stacks.remove(stack)) {
+                //We can't take a stack back out of the projections, so rebuild them when they are next needed
+                Arrays.fill(projections, null);
+            }
+        }
+
+        private Projection getProjection(TileEntity tile, Direction side, IItemHandler handler) {
+            int index = side.ordinal();
+            Projection projection = projections[index];
+            if (projection == null || !projection.matches(tile, handler)) {
+                projection = new Projection(tile, handler);
+                for (TransporterStack stack : stacks) {
+                    if (stack != null && stack.getPathType() != Path.NONE) {
+                        projection.insert(stack);
+                        if (projection.blocked) {
+                            break;
+                        }
+                    }
+                }
+                projections[index] = projection;
             }
+            return projection;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,23 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
@@ -29,9 +37,11 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.dimension.DimensionType;
 import org.apache.commons.lang3.tuple.Pair;
 
 public final class TransporterPathfinder {
@@ -44,7 +54,7 @@ public final class TransporterPathfinder {
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack);
         List<Destination> paths = new ArrayList<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min);
+            Destination path = getPath(network.getPathCache(), data, start, stack, min);
             if (path != null) {
                 paths.add(path);
             }
@@ -69,11 +79,11 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    private static Destination getPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min) {
+    private static Destination getPath(PathfinderCache cache, AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
             Coord4D dest = data.getLocation();
-            List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, data.getSides());
+            List<Coord4D> test = cache.getCache(start.coord(), dest, data.getSides());
             if (test != null && checkPath(start.world(), test, stack)) {
                 return new Destination(test, false, response, 0).calculateScore(start.world());
             }
@@ -85,7 +95,7 @@ public final class TransporterPathfinder {
             }, start.world(), dest, start.coord(), stack);
             List<Coord4D> path = p.getPath();
             if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
+                cache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
                 return new Destination(path, false, response, p.finalScore);
             }
         }
@@ -308,11 +318,13 @@ public final class TransporterPathfinder {
 
     public static class Pathfinder {
 
-        private final Set<Coord4D> openSet, closedSet;
-        private final Map<Coord4D, Coord4D> navMap;
-        private final Map<Coord4D, Double> gScore, fScore;
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+        private final NodeHeap openSet = new NodeHeap();
         private final Coord4D start;
         private final Coord4D finalNode;
+        private final long finalPos;
         private final TransporterStack transportStack;
         private final DestChecker destChecker;
 
@@ -326,48 +338,27 @@ public final class TransporterPathfinder {
             this.world = world;
 
             finalNode = finishObj;
+            finalPos = finalNode.getPos().toLong();
             start = startObj;
 
             transportStack = stack;
 
-            openSet = new HashSet<>();
-            closedSet = new HashSet<>();
-
-            navMap = new HashMap<>();
-
-            gScore = new HashMap<>();
-            fScore = new HashMap<>();
-
             results = new ArrayList<>();
 
             find(start);
         }
 
         public boolean find(Coord4D start) {
-            openSet.add(start);
-            gScore.put(start, 0D);
-            fScore.put(start, gScore.get(start) + getEstimate(start, finalNode));
+            long startPos = start.getPos().toLong();
+            gScore.put(startPos, 0D);
+            openSet.push(startPos, getEstimate(startPos, finalPos));
 
             int blockCount = 0;
-            Map<Long, IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+            Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                Coord4D neighbor = start.offset(direction);
-                //We get the chunk rather than the world so we can cache the chunk improving the overall
-                // performance for retrieving a bunch of chunks in the general vicinity
-                BlockPos neighborPos = neighbor.getPos();
-                int chunkX = neighborPos.getX() >> 4;
-                int chunkZ = neighborPos.getZ() >> 4;
-                long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xffffffffL);
-                IChunk chunk = chunkMap.get(combinedChunk);
-                if (chunk == null) {
-                    //Get the chunk but don't force load it
-                    chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
-                    if (chunk != null) {
-                        chunkMap.put(combinedChunk, chunk);
-                    }
-                }
-                TileEntity neighborTile = MekanismUtils.getTileEntity(chunk, neighborPos);
-                if (!transportStack.canInsertToTransporter(neighborTile, direction) && (!neighbor.equals(finalNode) || !destChecker.isValid(transportStack, direction, neighborTile))) {
+                long neighbor = BlockPos.offset(startPos, direction);
+                TileEntity neighborTile = getTileEntity(chunkMap, neighbor);
+                if (!transportStack.canInsertToTransporter(neighborTile, direction) && (neighbor != finalPos || !destChecker.isValid(transportStack, direction, neighborTile))) {
                     blockCount++;
                 }
             }
@@ -375,66 +366,31 @@ public final class TransporterPathfinder {
                 return false;
             }
 
-            double maxSearchDistance = start.distanceTo(finalNode) * 2;
+            double maxSearchDistance = getEstimate(startPos, finalPos) * 2;
             List<Direction> directionsToCheck = new ArrayList<>();
-            Coord4D[] neighbors = new Coord4D[EnumUtils.DIRECTIONS.length];
+            long[] neighbors = new long[EnumUtils.DIRECTIONS.length];
             TileEntity[] neighborEntities = new TileEntity[neighbors.length];
             while (!openSet.isEmpty()) {
-                Coord4D currentNode = null;
-                double lowestFScore = 0;
-                for (Coord4D node : openSet) {
-                    if (currentNode == null || fScore.get(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.get(node);
-                    }
-                }
-                if (currentNode == null || start.distanceTo(currentNode) > maxSearchDistance) {
+                long currentNode = openSet.peek();
+                if (getEstimate(startPos, currentNode) > maxSearchDistance) {
                     break;
                 }
 
-                openSet.remove(currentNode);
+                openSet.poll();
                 closedSet.add(currentNode);
-                //We get the chunk rather than the world so we can cache the chunk improving the overall
-                // performance for retrieving a bunch of chunks in the general vicinity
-                BlockPos currentNodePos = currentNode.getPos();
-                int chunkX = currentNodePos.getX() >> 4;
-                int chunkZ = currentNodePos.getZ() >> 4;
-                long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
-                IChunk chunk = chunkMap.get(combinedChunk);
-                if (chunk == null) {
-                    //Get the chunk but don't force load it
-                    chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
-                    if (chunk != null) {
-                        chunkMap.put(combinedChunk, chunk);
-                    }
-                }
-                TileEntity currentNodeTile = MekanismUtils.getTileEntity(chunk, currentNodePos);
+                TileEntity currentNodeTile = getTileEntity(chunkMap, currentNode);
                 Optional<ILogisticalTransporter> currentNodeTransporter = MekanismUtils.toOptional(CapabilityUtils.getCapability(currentNodeTile,
                       Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
                 directionsToCheck.clear();
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    Coord4D neighbor = currentNode.offset(direction);
+                    long neighbor = BlockPos.offset(currentNode, direction);
                     int ordinal = direction.ordinal();
                     neighbors[ordinal] = neighbor;
-                    //We get the chunk rather than the world so we can cache the chunk improving the overall
-                    // performance for retrieving a bunch of chunks in the general vicinity
-                    BlockPos neighborPos = neighbor.getPos();
-                    int innerChunkX = neighborPos.getX() >> 4;
-                    int innerChunkZ = neighborPos.getZ() >> 4;
-                    long innerCombinedChunk = (((long) innerChunkX) << 32) | (innerChunkZ & 0xFFFFFFFFL);
-                    IChunk innerChunk = chunkMap.get(innerCombinedChunk);
-                    if (innerChunk == null) {
-                        //Get the chunk but don't force load it
-                        innerChunk = world.getChunk(innerChunkX, innerChunkZ, ChunkStatus.FULL, false);
-                        if (innerChunk != null) {
-                            chunkMap.put(innerCombinedChunk, innerChunk);
-                        }
-                    }
-                    TileEntity neighborEntity = MekanismUtils.getTileEntity(innerChunk, neighborPos);
+                    TileEntity neighborEntity = getTileEntity(chunkMap, neighbor);
                     neighborEntities[ordinal] = neighborEntity;
                     if (currentNodeTransporter.isPresent()) {
                         ILogisticalTransporter transporter = currentNodeTransporter.get();
-                        if (transporter.canEmitTo(neighborEntity, direction) || (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborEntities[ordinal]))) {
+                        if (transporter.canEmitTo(neighborEntity, direction) || (neighbor == finalPos && destChecker.isValid(transportStack, direction, neighborEntity))) {
                             directionsToCheck.add(direction);
                         }
                     } else {
@@ -444,7 +400,7 @@ public final class TransporterPathfinder {
 
                 double currentScore = gScore.get(currentNode);
                 for (Direction direction : directionsToCheck) {
-                    Coord4D neighbor = neighbors[direction.ordinal()];
+                    long neighbor = neighbors[direction.ordinal()];
                     TileEntity neighborEntity = neighborEntities[direction.ordinal()];
                     if (transportStack.canInsertToTransporter(neighborEntity, direction)) {
                         double tentativeG = currentScore;
@@ -457,15 +413,20 @@ public final class TransporterPathfinder {
                             continue;
                         }
 
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.get(neighbor)) {
+                        boolean open = openSet.contains(neighbor);
+                        if (!open || tentativeG < gScore.get(neighbor)) {
                             navMap.put(neighbor, currentNode);
                             gScore.put(neighbor, tentativeG);
-                            fScore.put(neighbor, gScore.get(neighbor) + getEstimate(neighbor, finalNode));
-                            openSet.add(neighbor);
+                            double f = tentativeG + getEstimate(neighbor, finalPos);
+                            if (open) {
+                                openSet.decreaseKey(neighbor, f);
+                            } else {
+                                openSet.push(neighbor, f);
+                            }
                         }
-                    } else if (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborEntity)) {
+                    } else if (neighbor == finalPos && destChecker.isValid(transportStack, direction, neighborEntity)) {
                         side = direction;
-                        results = reconstructPath(navMap, currentNode);
+                        results = reconstructPath(currentNode);
                         return true;
                     }
                 }
@@ -473,13 +434,33 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<Coord4D> reconstructPath(Map<Coord4D, Coord4D> naviMap, Coord4D currentNode) {
+        @Nullable
+        private TileEntity getTileEntity(Long2ObjectMap<IChunk> chunkMap, long pos) {
+            //We get the chunk rather than the world so we can cache the chunk improving the overall
+            // performance for retrieving a bunch of chunks in the general vicinity
+            int chunkX = BlockPos.unpackX(pos) >> 4;
+            int chunkZ = BlockPos.unpackZ(pos) >> 4;
+            long combinedChunk = (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
+            IChunk chunk = chunkMap.get(combinedChunk);
+            if (chunk == null) {
+                //Get the chunk but don't force load it
+                chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                if (chunk != null) {
+                    chunkMap.put(combinedChunk, chunk);
+                }
+            }
+            return MekanismUtils.getTileEntity(chunk, BlockPos.fromLong(pos));
+        }
+
+        private List<Coord4D> reconstructPath(long currentNode) {
+            finalScore = gScore.get(currentNode) + getEstimate(currentNode, finalPos);
             List<Coord4D> path = new ArrayList<>();
-            path.add(currentNode);
-            if (naviMap.containsKey(currentNode)) {
-                path.addAll(reconstructPath(naviMap, naviMap.get(currentNode)));
+            DimensionType dimension = finalNode.dimension;
+            path.add(new Coord4D(BlockPos.unpackX(currentNode), BlockPos.unpackY(currentNode), BlockPos.unpackZ(currentNode), dimension));
+            while (navMap.containsKey(currentNode)) {
+                currentNode = navMap.get(currentNode);
+                path.add(new Coord4D(BlockPos.unpackX(currentNode), BlockPos.unpackY(currentNode), BlockPos.unpackZ(currentNode), dimension));
             }
-            finalScore = gScore.get(currentNode) + currentNode.distanceTo(finalNode);
             return path;
         }
 
@@ -494,8 +475,14 @@ public final class TransporterPathfinder {
             return side;
         }
 
-        private double getEstimate(Coord4D start, Coord4D target2) {
-            return start.distanceTo(target2);
+        /**
+         * Matches {@link Coord4D#distanceTo(Coord4D)} but works on packed positions.
+         */
+        private static int getEstimate(long start, long target) {
+            int subX = BlockPos.unpackX(start) - BlockPos.unpackX(target);
+            int subY = BlockPos.unpackY(start) - BlockPos.unpackY(target);
+            int subZ = BlockPos.unpackZ(start) - BlockPos.unpackZ(target);
+            return (int) MathHelper.sqrt(subX * subX + subY * subY + subZ * subZ);
         }
 
         public static class DestChecker {
@@ -504,5 +491,99 @@ public final class TransporterPathfinder {
                 return false;
             }
         }
+
+        /**
+         * Indexed binary min heap of packed positions ordered by their fScore, supporting decrease-key so that each node only ever has a single entry in the heap.
+         */
+        private static class NodeHeap {
+
+            private final Long2IntMap indices = new Long2IntOpenHashMap();
+            private long[] nodes = new long[16];
+            private double[] scores = new double[16];
+            private int size;
+
+            private NodeHeap() {
+                indices.defaultReturnValue(-1);
+            }
+
+            public boolean isEmpty() {
+                return size == 0;
+            }
+
+            public boolean contains(long node) {
+                return indices.containsKey(node);
+            }
+
+            public long peek() {
+                return nodes[0];
+            }
+
+            public long poll() {
+                long node = nodes[0];
+                indices.remove(node);
+                size--;
+                if (size > 0) {
+                    set(0, nodes[size], scores[size]);
+                    siftDown(0);
+                }
+                return node;
+            }
+
+            public void push(long node, double score) {
+                if (size == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, size << 1);
+                    scores = Arrays.copyOf(scores, size << 1);
+                }
+                set(size, node, score);
+                siftUp(size++);
+            }
+
+            public void decreaseKey(long node, double score) {
+                int index = indices.get(node);
+                if (index != -1 && score < scores[index]) {
+                    scores[index] = score;
+                    siftUp(index);
+                }
+            }
+
+            private void set(int index, long node, double score) {
+                nodes[index] = node;
+                scores[index] = score;
+                indices.put(node, index);
+            }
+
+            private void siftUp(int index) {
+                long node = nodes[index];
+                double score = scores[index];
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (scores[parent] <= score) {
+                        break;
+                    }
+                    set(index, nodes[parent], scores[parent]);
+                    index = parent;
+                }
+                set(index, node, score);
+            }
+
+            private void siftDown(int index) {
+                long node = nodes[index];
+                double score = scores[index];
+                int half = size >>> 1;
+                while (index < half) {
+                    int child = (index << 1) + 1;
+                    int right = child + 1;
+                    if (right < size && scores[right] < scores[child]) {
+                        child = right;
+                    }
+                    if (score <= scores[child]) {
+                        break;
+                    }
+                    set(index, nodes[child], scores[child]);
+                    index = child;
+                }
+                set(index, node, score);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,18 @@
 package mekanism.common.frequency;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -19,6 +27,7 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.AbstractChunkProvider;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.storage.DimensionSavedDataManager;
 import net.minecraft.world.storage.WorldSavedData;
@@ -29,11 +38,27 @@ public class FrequencyManager {
     public static final int MAX_FREQ_LENGTH = 16;
     public static final List<Character> SPECIAL_CHARS = Arrays.asList('-', ' ', '|', '\'', '\"', '_', '+', ':', '(', ')', '?', '!', '/', '@', '$', '`', '~', ',', '.', '#');
 
+    /** How many active coordinates are checked per tick while a consistency sweep is running. */
+    private static final int SWEEP_CHECKS_PER_TICK = 16;
+    /** Ticks between the start of two consistency sweeps. */
+    private static final int SWEEP_INTERVAL = 200;
+
     public static boolean loaded;
 
     private static Set<FrequencyManager> managers = new HashSet<>();
 
-    private Set<Frequency> frequencies = new HashSet<>();
+    /**
+     * Frequencies by their name and owner. This is the only place the manager keeps its frequencies in, so any change has to go through the methods of the manager.
+     */
+    private final Map<FrequencyKey, Frequency> frequencies = new HashMap<>();
+    private final Collection<Frequency> frequencyView = Collections.unmodifiableCollection(frequencies.values());
+    private final Object2IntMap<String> nameCounts = new Object2IntOpenHashMap<>();
+    /**
+     * The frequency each active coordinate is on, kept in sync with {@link Frequency#activeCoords} so that a coordinate can be deactivated without going through every
+     * frequency.
+     */
+    private final Map<Coord4D, Frequency> activeCoords = new HashMap<>();
+    private final Map<DimensionType, ArrayDeque<Coord4D>> sweepQueues = new HashMap<>();
 
     //Note: This can be null on the client side
     @Nullable
@@ -72,79 +97,119 @@ public class FrequencyManager {
         }
     }
 
+    /**
+     * Deactivates the coordinate of the given tile on the manager it is active on with the given frequency. Tiles call this when they get unloaded or removed.
+     */
+    public static void deactivate(TileEntity tile, @Nullable Frequency freq) {
+        World world = tile.getWorld();
+        if (freq == null || world == null || world.isRemote()) {
+            return;
+        }
+        Coord4D coord = Coord4D.get(tile);
+        for (FrequencyManager manager : managers) {
+            if (manager.activeCoords.get(coord) == freq) {
+                manager.deactivate(coord);
+                return;
+            }
+        }
+    }
+
     public static void reset() {
         for (FrequencyManager manager : managers) {
-            manager.frequencies.clear();
+            manager.clear();
             manager.dataHandler = null;
         }
         loaded = false;
     }
 
+    /**
+     * @return The frequency of this manager that is equal to the given one, or {@code null} if there is none.
+     */
+    @Nullable
+    private Frequency find(Frequency freq) {
+        Frequency found = frequencies.get(new FrequencyKey(freq.name, freq.ownerUUID));
+        return found != null && found.equals(freq) ? found : null;
+    }
+
+    @Nullable
+    public Frequency getFrequency(String name, UUID owner) {
+        return frequencies.get(new FrequencyKey(name, owner));
+    }
+
     public Frequency update(Coord4D coord, Frequency freq) {
-        for (Frequency iterFreq : frequencies) {
-            if (freq.equals(iterFreq)) {
-                iterFreq.activeCoords.add(coord);
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
-                return iterFreq;
-            }
+        Frequency found = find(freq);
+        if (found != null) {
+            activate(coord, found);
+            return found;
         }
         deactivate(coord);
         return null;
     }
 
     public void remove(String name, UUID owner) {
-        for (Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext(); ) {
-            Frequency iterFreq = iter.next();
-            if (iterFreq.name.equals(name) && iterFreq.ownerUUID.equals(owner)) {
-                iter.remove();
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
-            }
+        Frequency freq = frequencies.remove(new FrequencyKey(name, owner));
+        if (freq != null) {
+            onRemoved(freq);
         }
     }
 
     public void remove(String name) {
-        for (Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext(); ) {
+        if (!containsFrequency(name)) {
+            return;
+        }
+        for (Iterator<Frequency> iter = frequencies.values().iterator(); iter.hasNext(); ) {
             Frequency iterFreq = iter.next();
             if (iterFreq.name.equals(name)) {
                 iter.remove();
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
+                onRemoved(iterFreq);
             }
         }
     }
 
+    private void onRemoved(Frequency freq) {
+        int count = nameCounts.getInt(freq.name) - 1;
+        if (count > 0) {
+            nameCounts.put(freq.name, count);
+        } else {
+            nameCounts.removeInt(freq.name);
+        }
+        for (Coord4D coord : freq.activeCoords) {
+            activeCoords.remove(coord, freq);
+        }
+        markDirty();
+    }
+
+    /**
+     * Marks the given coordinate as being active on the given frequency, removing it from any other frequency it was active on.
+     */
+    public void activate(Coord4D coord, Frequency freq) {
+        Frequency previous = activeCoords.put(coord, freq);
+        if (previous != freq) {
+            if (previous != null) {
+                previous.activeCoords.remove(coord);
+            }
+            freq.activeCoords.add(coord);
+        }
+    }
+
     public void deactivate(Coord4D coord) {
-        for (Frequency freq : frequencies) {
+        Frequency freq = activeCoords.remove(coord);
+        if (freq != null) {
             freq.activeCoords.remove(coord);
-            if (dataHandler != null) {
-                dataHandler.markDirty();
-            }
         }
     }
 
     public Frequency validateFrequency(UUID uuid, Coord4D coord, Frequency freq) {
-        for (Frequency iterFreq : frequencies) {
-            if (freq.equals(iterFreq)) {
-                iterFreq.activeCoords.add(coord);
-                if (dataHandler != null) {
-                    dataHandler.markDirty();
-                }
-                return iterFreq;
-            }
+        Frequency found = find(freq);
+        if (found != null) {
+            activate(coord, found);
+            return found;
         }
 
         if (uuid.equals(freq.ownerUUID)) {
-            freq.activeCoords.add(coord);
             freq.valid = true;
-            frequencies.add(freq);
-            if (dataHandler != null) {
-                dataHandler.markDirty();
-            }
+            addFrequency(freq);
+            activate(coord, freq);
             return freq;
         }
         return null;
@@ -169,50 +234,97 @@ public class FrequencyManager {
         }
     }
 
-    public Set<Frequency> getFrequencies() {
-        return frequencies;
+    public Collection<Frequency> getFrequencies() {
+        return frequencyView;
     }
 
+    /**
+     * Adds the given frequency to this manager, along with any coordinates it already has active. Does nothing if the manager already has a frequency with the same
+     * name and owner.
+     */
     public void addFrequency(Frequency freq) {
-        frequencies.add(freq);
-        if (dataHandler != null) {
-            dataHandler.markDirty();
+        if (frequencies.putIfAbsent(new FrequencyKey(freq.name, freq.ownerUUID), freq) != null) {
+            return;
+        }
+        nameCounts.put(freq.name, nameCounts.getInt(freq.name) + 1);
+        for (Coord4D coord : new HashSet<>(freq.activeCoords)) {
+            activate(coord, freq);
         }
+        markDirty();
     }
 
     public boolean containsFrequency(String name) {
-        for (Frequency freq : frequencies) {
-            if (freq.name.equals(name)) {
-                return true;
-            }
+        return nameCounts.containsKey(name);
+    }
+
+    private void setFrequencies(Set<Frequency> loaded) {
+        clear();
+        for (Frequency freq : loaded) {
+            addFrequency(freq);
+        }
+        //Loading is not a change that needs to be saved again
+        if (dataHandler != null) {
+            dataHandler.setDirty(false);
         }
-        return false;
     }
 
+    private void clear() {
+        frequencies.clear();
+        nameCounts.clear();
+        activeCoords.clear();
+        sweepQueues.clear();
+    }
+
+    /**
+     * Marks the saved data of this manager as changed. Anything that changes the saved contents of one of its frequencies outside of the manager has to call this.
+     */
+    public void markDirty() {
+        if (dataHandler != null) {
+            dataHandler.markDirty();
+        }
+    }
+
+    /**
+     * Tiles activate and deactivate their coordinates themselves as they get loaded, unloaded and removed. This only sweeps over the active coordinates as a consistency
+     * check, a few of them each tick.
+     */
     public void tickSelf(World world) {
-        for (Frequency iterFreq : frequencies) {
-            for (Iterator<Coord4D> iter = iterFreq.activeCoords.iterator(); iter.hasNext(); ) {
-                Coord4D coord = iter.next();
-                if (coord.dimension.equals(world.getDimension().getType())) {
-                    //Note: We will check if the block is loaded while getting the tile so we don't need to
-                    // specifically have that case as all it did was also remove iter
-                    TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
-                    if (tile instanceof IFrequencyHandler) {
-                        Frequency freq = ((IFrequencyHandler) tile).getFrequency(this);
-                        if (freq == null || !freq.equals(iterFreq)) {
-                            iter.remove();
-                        }
-                    } else {
-                        iter.remove();
-                    }
+        DimensionType dimension = world.getDimension().getType();
+        ArrayDeque<Coord4D> queue = sweepQueues.computeIfAbsent(dimension, dim -> new ArrayDeque<>());
+        if (queue.isEmpty()) {
+            if (world.getGameTime() % SWEEP_INTERVAL != 0) {
+                return;
+            }
+            for (Coord4D coord : activeCoords.keySet()) {
+                if (coord.dimension.equals(dimension)) {
+                    queue.add(coord);
                 }
             }
         }
+        for (int i = 0; i < SWEEP_CHECKS_PER_TICK && !queue.isEmpty(); i++) {
+            Coord4D coord = queue.poll();
+            Frequency iterFreq = activeCoords.get(coord);
+            if (iterFreq == null) {
+                //Already deactivated since the sweep started
+                continue;
+            }
+            //Note: We will check if the block is loaded while getting the tile so we don't need to
+            // specifically have that case as all it did was also deactivate the coord
+            TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
+            if (tile instanceof IFrequencyHandler) {
+                Frequency freq = ((IFrequencyHandler) tile).getFrequency(this);
+                if (freq == null || !freq.equals(iterFreq)) {
+                    deactivate(coord);
+                }
+            } else {
+                deactivate(coord);
+            }
+        }
     }
 
     public void writeFrequencies(TileNetworkList data) {
         data.add(frequencies.size());
-        for (Frequency freq : frequencies) {
+        for (Frequency freq : frequencies.values()) {
             freq.write(data);
         }
     }
@@ -253,8 +365,9 @@ public class FrequencyManager {
 
         public void syncManager() {
             if (loadedFrequencies != null) {
-                manager.frequencies = loadedFrequencies;
                 manager.ownerUUID = loadedOwner;
+                manager.setFrequencies(loadedFrequencies);
+                loadedFrequencies = null;
             }
         }
 
@@ -295,4 +408,35 @@ public class FrequencyManager {
             return nbtTags;
         }
     }
+
+    private static final class FrequencyKey {
+
+        private final String name;
+        @Nullable
+        private final UUID owner;
+        private final int hashCode;
+
+        private FrequencyKey(String name, @Nullable UUID owner) {
+            this.name = name;
+            this.owner = owner;
+            hashCode = 31 * name.hashCode() + Objects.hashCode(owner);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof FrequencyKey) {
+                FrequencyKey other = (FrequencyKey) obj;
+                return name.equals(other.name) && Objects.equals(owner, other.owner);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
\ No newline at end of file
@@ -61,6 +61,12 @@ public class InventoryContainerSlot extends Slot implements IInsertableSlot {
         //TODO: should we call: slot.onContentsChanged();
     }
 
+    @Override
+    public void onSlotChanged() {
+        //Vanilla's container logic may modify the stack returned by getStack directly, so make sure our slot knows its contents changed
+        slot.onContentsChanged();
+    }
+
     @Override
     public int getSlotStackLimit() {
         return slot.getLimit(ItemStack.EMPTY);
@@ -62,6 +62,7 @@ public class BasicInventorySlot implements IInventorySlot {
     private final int x;
     private final int y;
     protected boolean obeyStackLimit = true;
+    private int version;
 
     protected BasicInventorySlot(Predicate<@NonNull ItemStack> canExtract, Predicate<@NonNull ItemStack> canInsert, @Nonnull Predicate<@NonNull ItemStack> validator,
           @Nullable IMekanismInventory inventory, int x, int y) {
@@ -200,6 +201,7 @@ public class BasicInventorySlot implements IInventorySlot {
 
     @Override
     public void onContentsChanged() {
+        version++;
         if (inventory != null) {
             inventory.onContentsChanged();
         }
@@ -281,5 +283,11 @@ public class BasicInventorySlot implements IInventorySlot {
         // We do this instead of using setStackUnchecked to avoid calling markDirty when we are loading
         // the inventory and the world is still null on the tile
         current = stack;
+        version++;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
     }
 }
\ No newline at end of file
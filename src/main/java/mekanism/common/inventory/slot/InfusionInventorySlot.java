@@ -30,7 +30,7 @@ public class InfusionInventorySlot extends BasicInventorySlot {
      */
     @Nonnull
     private static InfusionStack getPotentialConversion(@Nullable World world, ItemStack itemStack) {
-        ItemStackToInfuseTypeRecipe foundRecipe = MekanismRecipeType.INFUSION_CONVERSION.findFirst(world, recipe -> recipe.getInput().testType(itemStack));
+        ItemStackToInfuseTypeRecipe foundRecipe = MekanismRecipeType.INFUSION_CONVERSION.findFirst(world, itemStack, recipe -> recipe.getInput().testType(itemStack));
         return foundRecipe == null ? InfusionStack.EMPTY : foundRecipe.getOutput(itemStack);
     }
 
@@ -72,7 +72,7 @@ public class InfusionInventorySlot extends BasicInventorySlot {
 
     public void fillTank() {
         if (!isEmpty()) {
-            ItemStackToInfuseTypeRecipe foundRecipe = MekanismRecipeType.INFUSION_CONVERSION.findFirst(worldSupplier.get(), recipe -> recipe.getInput().test(current));
+            ItemStackToInfuseTypeRecipe foundRecipe = MekanismRecipeType.INFUSION_CONVERSION.findFirst(worldSupplier.get(), current, recipe -> recipe.getInput().test(current));
             if (foundRecipe != null) {
                 ItemStack itemInput = foundRecipe.getInput().getMatchingInstance(current);
                 if (!itemInput.isEmpty()) {
@@ -78,12 +78,12 @@ public class ItemNetworkReader extends ItemEnergized {
                             TileEntity tile = MekanismUtils.getTileEntity(world, coord.getPos());
                             Direction iterSideOpposite = iterSide.getOpposite();
                             CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, iterSideOpposite).ifPresent(transmitter -> {
-                                if (transmitter.getTransmitterNetwork().getPossibleAcceptors().contains(coord.offset(iterSideOpposite)) &&
+                                if (transmitter.getTransmitterNetwork().getPossibleAcceptors().contains(tileCoord.getPos().toLong()) &&
                                     !iteratedNetworks.contains(transmitter.getTransmitterNetwork())) {
                                     player.sendMessage(MekanismLang.NETWORK_READER_BORDER.translateColored(EnumColor.GRAY, "-------------",
                                           MekanismLang.GENERIC_SQUARE_BRACKET.translateColored(EnumColor.DARK_BLUE, transmitter.getTransmissionType())));
                                     player.sendMessage(MekanismLang.NETWORK_READER_CONNECTED_SIDES.translateColored(EnumColor.GRAY, EnumColor.DARK_GRAY,
-                                          transmitter.getTransmitterNetwork().getAcceptorDirections().get(coord.offset(iterSideOpposite)).toString()));
+                                          transmitter.getTransmitterNetwork().getAcceptorDirections(tileCoord.getPos()).toString()));
                                     player.sendMessage(MekanismLang.NETWORK_READER_BORDER.translateColored(EnumColor.GRAY, "-------------", EnumColor.DARK_BLUE, "[=======]"));
                                     iteratedNetworks.add(transmitter.getTransmitterNetwork());
                                 }
@@ -4,6 +4,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
 
 public interface IMultiblock<T extends SynchronizedData<T>> {
 
@@ -12,4 +13,13 @@ public interface IMultiblock<T extends SynchronizedData<T>> {
     ActionResultType onActivate(PlayerEntity player, Hand hand, ItemStack stack);
 
     void doUpdate();
+
+    /**
+     * Like {@link #doUpdate()} but for when only a single block next to this multiblock changed, which allows skipping the update if it cannot affect the structure.
+     *
+     * @param changedPos - position of the block that changed
+     */
+    default void doUpdate(BlockPos changedPos) {
+        doUpdate();
+    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.common.tile.TileEntityMultiblock;
 import mekanism.common.util.EnumUtils;
@@ -14,9 +15,21 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.IChunk;
 
 public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
 
+    /**
+     * How far from the pointer the viability grid reaches, any structure the pointer can be a part of fits inside it.
+     */
+    private static final int GRID_RADIUS = 17;
+    private static final int GRID_SIZE = 2 * GRID_RADIUS + 1;
+    private static final byte VIABLE_CHECKED = 1;
+    private static final byte VIABLE = 2;
+    private static final byte AIR_CHECKED = 4;
+    private static final byte AIR = 8;
+
     /**
      * The multiblock nodes that have already been iterated over.
      */
@@ -34,10 +47,32 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      */
     public TileEntityMultiblock<T> pointer;
 
+    /**
+     * What is known about each position around the pointer, so that the world only has to be looked at once per position while validating.
+     */
+    private byte[] nodeStates;
+    private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+    @Nullable
+    private IChunk cachedChunk;
+
     public UpdateProtocol(TileEntityMultiblock<T> tile) {
         pointer = tile;
     }
 
+    private int getGridIndex(int x, int y, int z) {
+        BlockPos pos = pointer.getPos();
+        int gridX = x - pos.getX() + GRID_RADIUS;
+        int gridY = y - pos.getY() + GRID_RADIUS;
+        int gridZ = z - pos.getZ() + GRID_RADIUS;
+        if (gridX < 0 || gridX >= GRID_SIZE || gridY < 0 || gridY >= GRID_SIZE || gridZ < 0 || gridZ >= GRID_SIZE) {
+            return -1;
+        }
+        if (nodeStates == null) {
+            nodeStates = new byte[GRID_SIZE * GRID_SIZE * GRID_SIZE];
+        }
+        return (gridX * GRID_SIZE + gridY) * GRID_SIZE + gridZ;
+    }
+
     /**
      * Recursively loops through each node connected to the given TileEntity.
      *
@@ -80,7 +115,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                     for (int z = zmin; z <= zmax; z++) {
                         int zPos = origZ + z;
                         if (x == xmin || x == xmax || y == ymin || y == ymax || z == zmin || z == zmax) {
-                            if (!isViableNode(xPos, yPos, zPos) || isFrame(coord.translate(x, y, z), minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(xPos, yPos, zPos)) {
+                            if (!isViableNode(xPos, yPos, zPos) || isFrame(xPos, yPos, zPos, minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(xPos, yPos, zPos)) {
                                 //If it is not a valid node or if it is supposed to be a frame but is invalid
                                 // then we are not valid over all
                                 isValid = false;
@@ -179,7 +214,33 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is an air block.
      */
     protected boolean isAir(int x, int y, int z) {
-        return pointer.getWorld().isAirBlock(new BlockPos(x, y, z));
+        int index = getGridIndex(x, y, z);
+        if (index != -1 && (nodeStates[index] & AIR_CHECKED) != 0) {
+            return (nodeStates[index] & AIR) != 0;
+        }
+        boolean air = checkAir(x, y, z);
+        if (index != -1) {
+            nodeStates[index] |= air ? AIR_CHECKED | AIR : AIR_CHECKED;
+        }
+        return air;
+    }
+
+    private boolean checkAir(int x, int y, int z) {
+        World world = pointer.getWorld();
+        mutablePos.setPos(x, y, z);
+        if (y >= 0 && y < world.getHeight()) {
+            int chunkX = x >> 4;
+            int chunkZ = z >> 4;
+            IChunk chunk = cachedChunk;
+            if (chunk == null || chunk.getPos().x != chunkX || chunk.getPos().z != chunkZ) {
+                chunk = cachedChunk = world.getChunkProvider().getChunk(chunkX, chunkZ, false);
+            }
+            if (chunk != null) {
+                return chunk.getBlockState(mutablePos).isAir(world, mutablePos);
+            }
+        }
+        //Let the world handle positions that are outside of it or not loaded
+        return world.isAirBlock(mutablePos);
     }
 
     protected boolean isValidInnerNode(int x, int y, int z) {
@@ -225,12 +286,23 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is a viable node for a multiblock structure.
      */
     public boolean isViableNode(int x, int y, int z) {
+        int index = getGridIndex(x, y, z);
+        if (index != -1 && (nodeStates[index] & VIABLE_CHECKED) != 0) {
+            return (nodeStates[index] & VIABLE) != 0;
+        }
+        boolean viable = checkViableNode(x, y, z);
+        if (index != -1) {
+            nodeStates[index] |= viable ? VIABLE_CHECKED | VIABLE : VIABLE_CHECKED;
+        }
+        return viable;
+    }
+
+    private boolean checkViableNode(int x, int y, int z) {
         TileEntity tile = MekanismUtils.getTileEntity(pointer.getWorld(), new BlockPos(x, y, z));
         if (tile instanceof IStructuralMultiblock && ((IStructuralMultiblock) tile).canInterface(pointer)) {
             return true;
         }
         return MultiblockManager.areEqual(tile, pointer);
-
     }
 
     /**
@@ -255,7 +327,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     }
 
     /**
-     * @param obj  - location to check
+     * @param x    - x coordinate
+     * @param y    - y coordinate
+     * @param z    - z coordinate
      * @param xmin - minimum x value
      * @param xmax - maximum x value
      * @param ymin - minimum y value
@@ -265,10 +339,10 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      *
      * @return Whether or not the block at the specified location is considered a frame on the multiblock structure.
      */
-    private boolean isFrame(Coord4D obj, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
-        boolean xMatches = obj.x == xmin || obj.x == xmax;
-        boolean yMatches = obj.y == ymin || obj.y == ymax;
-        boolean zMatches = obj.z == zmin || obj.z == zmax;
+    private boolean isFrame(int x, int y, int z, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
+        boolean xMatches = x == xmin || x == xmax;
+        boolean yMatches = y == ymin || y == ymax;
+        boolean zMatches = z == zmin || z == zmax;
         return xMatches && yMatches || xMatches && zMatches || yMatches && zMatches;
     }
 
@@ -314,6 +388,33 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         }
     }
 
+    /**
+     * Checks if a single changed block can have any effect on the structure the pointer is currently a part of, without running the full protocol.
+     *
+     * A formed structure is only connected to viable nodes that are a part of it, so a block outside of its bounds only matters if it is now a viable node that connects
+     * to the structure. Anything inside the bounds could change what is inside the structure or its shell.
+     *
+     * @param changed - position of the block that changed
+     *
+     * @return {@code true} if the structure is still valid and the protocol does not need to run.
+     */
+    public boolean isStillValid(BlockPos changed) {
+        T structure = pointer.structure;
+        if (structure == null || structure.destroyed || structure.minLocation == null || structure.maxLocation == null) {
+            return false;
+        }
+        Coord4D min = structure.minLocation;
+        Coord4D max = structure.maxLocation;
+        int x = changed.getX();
+        int y = changed.getY();
+        int z = changed.getZ();
+        if (x >= min.x && x <= max.x && y >= min.y && y <= max.y && z >= min.z && z <= max.z) {
+            return false;
+        }
+        //Only a single lookup, so don't bother with the grid
+        return !checkViableNode(x, y, z);
+    }
+
     /**
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
@@ -6,6 +6,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.tile.TileEntityMultiblock;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.PlayerEntity;
@@ -33,6 +34,10 @@ public class PacketDataRequest {
             if (tile instanceof TileEntityMultiblock) {
                 ((TileEntityMultiblock<?>) tile).sendStructure = true;
             }
+            if (tile instanceof TileEntityMekanism) {
+                //The client is starting over, so the next GUI sync has to contain everything
+                ((TileEntityMekanism) tile).resetSyncedData(player);
+            }
             CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, null).ifPresent(transmitter -> {
                 transmitter.setRequestsUpdate();
                 if (transmitter.hasTransmitterNetwork()) {
@@ -3,6 +3,7 @@ package mekanism.common.network;
 import java.util.function.Supplier;
 import mekanism.api.gas.GasTags;
 import mekanism.api.infuse.InfuseTypeTags;
+import mekanism.common.content.filter.TagMatcher;
 import mekanism.common.tags.MekanismTagManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
@@ -22,6 +23,7 @@ public class PacketMekanismTags {
             GasTags.setCollection(message.tags.getGases());
             InfuseTypeTags.setCollection(message.tags.getInfuseTypes());
             //}
+            TagMatcher.invalidateAll();
         });
         context.get().setPacketHandled(true);
     }
@@ -0,0 +1,72 @@
+package mekanism.common.network;
+
+import java.util.function.Supplier;
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.tile.base.SyncedData;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * GUI sync of a {@link TileEntityMekanism} that only contains the {@link SyncedData} fields that changed since the player was last sent them. The values are written
+ * straight from the tile into the outgoing buffer when the packet gets encoded, which happens as it is sent.
+ */
+public class PacketTileEntityDelta {
+
+    private final Coord4D coord4D;
+    private SyncedData syncedData;
+    private int[] changedFields;
+    private PacketBuffer storedBuffer;
+
+    public PacketTileEntityDelta(Coord4D coord, SyncedData syncedData, int[] changedFields) {
+        coord4D = coord;
+        this.syncedData = syncedData;
+        this.changedFields = changedFields;
+    }
+
+    private PacketTileEntityDelta(Coord4D coord) {
+        coord4D = coord;
+    }
+
+    public static void handle(PacketTileEntityDelta message, Supplier<Context> context) {
+        PlayerEntity player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            TileEntity tile = MekanismUtils.getTileEntity(player.world, message.coord4D.getPos());
+            if (tile instanceof TileEntityMekanism) {
+                SyncedData syncedData = ((TileEntityMekanism) tile).getSyncedData();
+                if (syncedData == null) {
+                    //We don't know the fields the server is sending, ask for everything again
+                    Mekanism.packetHandler.sendToServer(new PacketDataRequest(message.coord4D));
+                } else {
+                    try {
+                        syncedData.read(message.storedBuffer);
+                    } catch (Exception e) {
+                        Mekanism.logger.error("FIXME: Packet handling error", e);
+                    }
+                }
+            }
+            message.storedBuffer.release();
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketTileEntityDelta pkt, PacketBuffer buf) {
+        pkt.coord4D.write(buf);
+        pkt.syncedData.write(buf, pkt.changedFields);
+    }
+
+    public static PacketTileEntityDelta decode(PacketBuffer buf) {
+        PacketTileEntityDelta packet = new PacketTileEntityDelta(Coord4D.read(buf));
+        //Keep the fields until we are on the main thread and can find the tile that knows how to read them
+        packet.storedBuffer = new PacketBuffer(buf.copy());
+        return packet;
+    }
+}
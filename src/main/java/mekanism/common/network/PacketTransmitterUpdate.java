@@ -1,18 +1,27 @@
 package mekanism.common.network;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortList;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.gas.GasStack;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
-import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.PacketHandler;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.transmitters.grid.EnergyNetwork;
 import mekanism.common.transmitters.grid.FluidNetwork;
 import mekanism.common.transmitters.grid.GasNetwork;
@@ -21,11 +30,26 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 
 public class PacketTransmitterUpdate {
 
+    private static final int SECTION_BLOCKS = 16 * 16 * 16;
+    /**
+     * Number of transmitters in a section above which it is sent as a bitmap of the section instead of a list of positions.
+     */
+    private static final int BITMAP_THRESHOLD = SECTION_BLOCKS / Short.SIZE;
+    /**
+     * Client networks that were built while the transmitter their updates are sent from was not loaded, keyed by that transmitter so later value updates still find
+     * them.
+     */
+    private static final Map<Coord4D, DynamicNetwork<?, ?, ?>> detachedNetworks = new HashMap<>();
+
     private PacketType packetType;
 
     private Coord4D coord4D;
@@ -41,16 +65,31 @@ public class PacketTransmitterUpdate {
     private boolean didFluidTransfer;
 
     private boolean newNetwork;
-    private Collection<IGridTransmitter<?, ?, ?>> transmittersAdded;
-    private Collection<Coord4D> transmitterCoords;
+    /**
+     * Positions of the added transmitters, keyed by the {@link SectionPos} they are in. Positions are packed relative to their section, see {@link #packRelative(BlockPos)}.
+     */
+    private Long2ObjectMap<ShortList> sections;
+    /**
+     * Which of the {@link #sections} this packet contains, so that one grouping can be shared by the packets of all players.
+     */
+    private LongList sectionsToSend;
+
+    /**
+     * Creates an {@link PacketType#UPDATE} packet for the given sections of transmitters.
+     *
+     * @param sections       Added transmitters, grouped with {@link #groupBySection(Collection)}.
+     * @param sectionsToSend The sections to actually send, usually the ones the receiving player is tracking.
+     */
+    public PacketTransmitterUpdate(Coord4D coord, boolean newNetwork, Long2ObjectMap<ShortList> sections, LongList sectionsToSend) {
+        this(PacketType.UPDATE, coord);
+        this.newNetwork = newNetwork;
+        this.sections = sections;
+        this.sectionsToSend = sectionsToSend;
+    }
 
     public PacketTransmitterUpdate(PacketType type, Coord4D coord, Object... data) {
         this(type, coord);
         switch (packetType) {
-            case UPDATE:
-                newNetwork = (Boolean) data[0];
-                transmittersAdded = (Collection<IGridTransmitter<?, ?, ?>>) data[1];
-                break;
             case ENERGY:
                 power = (Double) data[0];
                 break;
@@ -72,6 +111,101 @@ public class PacketTransmitterUpdate {
         coord4D = coord;
     }
 
+    /**
+     * Groups the positions of the given transmitters by the chunk section they are in.
+     */
+    public static Long2ObjectMap<ShortList> groupBySection(Collection<IGridTransmitter<?, ?, ?>> transmitters) {
+        Long2ObjectMap<ShortList> sections = new Long2ObjectOpenHashMap<>();
+        for (IGridTransmitter<?, ?, ?> transmitter : transmitters) {
+            BlockPos pos = transmitter.getPos();
+            long section = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+            ShortList positions = sections.get(section);
+            if (positions == null) {
+                positions = new ShortArrayList();
+                sections.put(section, positions);
+            }
+            positions.add(packRelative(pos));
+        }
+        return sections;
+    }
+
+    private static short packRelative(BlockPos pos) {
+        return (short) ((pos.getX() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getY() & 15));
+    }
+
+    @Nullable
+    private static IGridTransmitter<?, ?, ?> getTransmitter(@Nullable TileEntity tile) {
+        if (tile instanceof TileEntityTransmitter) {
+            //Skip the capability lookup for our own transmitters
+            return ((TileEntityTransmitter<?, ?, ?>) tile).getTransmitter();
+        }
+        return MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, null)).orElse(null);
+    }
+
+    /**
+     * Sets the network of all the transmitters in this packet, looking them up one chunk at a time.
+     */
+    private void handleUpdate(World world) {
+        List<IGridTransmitter<?, ?, ?>> transmitters = new ArrayList<>();
+        for (int i = 0; i < sectionsToSend.size(); i++) {
+            long section = sectionsToSend.getLong(i);
+            Chunk chunk = world.getChunkProvider().getChunk(SectionPos.extractX(section), SectionPos.extractZ(section), false);
+            if (chunk == null) {
+                continue;
+            }
+            int baseX = SectionPos.extractX(section) << 4;
+            int baseY = SectionPos.extractY(section) << 4;
+            int baseZ = SectionPos.extractZ(section) << 4;
+            ShortList positions = sections.get(section);
+            for (int j = 0; j < positions.size(); j++) {
+                short packed = positions.getShort(j);
+                IGridTransmitter<?, ?, ?> transmitter = getTransmitter(chunk.getTileEntity(new BlockPos(baseX + (packed >> 8 & 15), baseY + (packed & 15),
+                      baseZ + (packed >> 4 & 15))));
+                if (transmitter != null) {
+                    transmitters.add(transmitter);
+                }
+            }
+        }
+        IGridTransmitter anchor = getTransmitter(MekanismUtils.getTileEntity(world, coord4D.getPos()));
+        //TODO: Evaluate this stuff and see if we can do it in a way that is fine for generics
+        DynamicNetwork<?, ?, ?> network;
+        if (anchor == null) {
+            if (transmitters.isEmpty()) {
+                return;
+            }
+            //The transmitter the update was sent from is in a chunk we are not tracking. The added transmitters were not part of the network before this update, so
+            // whatever network they are in is not the one being updated, and we treat the update as a new network instead
+            network = transmitters.get(0).createEmptyNetwork();
+            detachedNetworks.put(coord4D, network);
+        } else {
+            network = anchor.hasTransmitterNetwork() && !newNetwork ? anchor.getTransmitterNetwork() : anchor.createEmptyNetwork();
+            detachedNetworks.remove(coord4D);
+        }
+        network.register();
+        if (anchor != null) {
+            anchor.setTransmitterNetwork(network);
+        }
+        for (IGridTransmitter transmitter : transmitters) {
+            transmitter.setTransmitterNetwork(network);
+        }
+        network.updateCapacity();
+    }
+
+    @Nullable
+    private static DynamicNetwork<?, ?, ?> getDetachedNetwork(World world, Coord4D coord) {
+        DynamicNetwork<?, ?, ?> network = detachedNetworks.get(coord);
+        if (network != null && (network.transmittersSize() == 0 || network.getWorld() != world)) {
+            //All of its transmitters have since been unloaded or moved to another network
+            detachedNetworks.remove(coord);
+            return null;
+        }
+        return network;
+    }
+
+    public static void resetDetachedNetworks() {
+        detachedNetworks.clear();
+    }
+
     public static void handle(PacketTransmitterUpdate message, Supplier<Context> context) {
         PlayerEntity player = PacketHandler.getPlayer(context);
         if (player == null) {
@@ -81,43 +215,40 @@ public class PacketTransmitterUpdate {
             if (message.coord4D == null) {
                 return;
             }
-            TileEntity tileEntity = MekanismUtils.getTileEntity(player.world, message.coord4D.getPos());
-            Optional<IGridTransmitter<?, ?, ?>> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tileEntity, Capabilities.GRID_TRANSMITTER_CAPABILITY, null));
-            if (capability.isPresent()) {
-                //TODO: Evaluate this stuff and see if we can do it in a way that is fine for generics
-                IGridTransmitter transmitter = capability.get();
-                if (message.packetType == PacketType.UPDATE) {
-                    DynamicNetwork<?, ?, ?> network = transmitter.hasTransmitterNetwork() && !message.newNetwork ? transmitter.getTransmitterNetwork() : transmitter.createEmptyNetwork();
-                    network.register();
-                    transmitter.setTransmitterNetwork(network);
-                    for (Coord4D coord : message.transmitterCoords) {
-                        TileEntity tile = MekanismUtils.getTileEntity(player.world, coord.getPos());
-                        CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, null)
-                              .ifPresent(gridTransmitter -> ((IGridTransmitter) gridTransmitter).setTransmitterNetwork(network));
-                    }
-                    network.updateCapacity();
-                    return;
+            if (message.packetType == PacketType.UPDATE) {
+                message.handleUpdate(player.world);
+                return;
+            }
+            if (MekanismConfig.client.opaqueTransmitters.get()) {
+                return;
+            }
+            IGridTransmitter<?, ?, ?> transmitter = getTransmitter(MekanismUtils.getTileEntity(player.world, message.coord4D.getPos()));
+            DynamicNetwork<?, ?, ?> network;
+            if (transmitter == null) {
+                network = getDetachedNetwork(player.world, message.coord4D);
+            } else if (transmitter.hasTransmitterNetwork()) {
+                network = transmitter.getTransmitterNetwork();
+            } else {
+                return;
+            }
+            if (network == null) {
+                return;
+            }
+            if (message.packetType == PacketType.ENERGY) {
+                if (network instanceof EnergyNetwork) {
+                    ((EnergyNetwork) network).clientEnergyScale = message.power;
                 }
-                if (MekanismConfig.client.opaqueTransmitters.get() || !transmitter.hasTransmitterNetwork()) {
-                    return;
+            } else if (message.packetType == PacketType.GAS) {
+                if (network instanceof GasNetwork) {
+                    GasNetwork net = (GasNetwork) network;
+                    net.buffer = message.gasStack;
+                    net.didTransfer = message.didGasTransfer;
                 }
-                TransmissionType transmissionType = transmitter.getTransmissionType();
-                if (message.packetType == PacketType.ENERGY) {
-                    if (transmissionType == TransmissionType.ENERGY) {
-                        ((EnergyNetwork) transmitter.getTransmitterNetwork()).clientEnergyScale = message.power;
-                    }
-                } else if (message.packetType == PacketType.GAS) {
-                    if (transmissionType == TransmissionType.GAS) {
-                        GasNetwork net = (GasNetwork) transmitter.getTransmitterNetwork();
-                        net.buffer = message.gasStack;
-                        net.didTransfer = message.didGasTransfer;
-                    }
-                } else if (message.packetType == PacketType.FLUID) {
-                    if (transmissionType == TransmissionType.FLUID) {
-                        FluidNetwork net = (FluidNetwork) transmitter.getTransmitterNetwork();
-                        net.buffer = message.fluidStack;
-                        net.didTransfer = message.didFluidTransfer;
-                    }
+            } else if (message.packetType == PacketType.FLUID) {
+                if (network instanceof FluidNetwork) {
+                    FluidNetwork net = (FluidNetwork) network;
+                    net.buffer = message.fluidStack;
+                    net.didTransfer = message.didFluidTransfer;
                 }
             }
         });
@@ -131,9 +262,25 @@ public class PacketTransmitterUpdate {
         switch (pkt.packetType) {
             case UPDATE:
                 buf.writeBoolean(pkt.newNetwork);
-                buf.writeInt(pkt.transmittersAdded.size());
-                for (IGridTransmitter<?, ?, ?> transmitter : pkt.transmittersAdded) {
-                    transmitter.coord().write(buf);
+                buf.writeVarInt(pkt.sectionsToSend.size());
+                for (int i = 0; i < pkt.sectionsToSend.size(); i++) {
+                    long section = pkt.sectionsToSend.getLong(i);
+                    ShortList positions = pkt.sections.get(section);
+                    buf.writeLong(section);
+                    buf.writeVarInt(positions.size());
+                    if (positions.size() > BITMAP_THRESHOLD) {
+                        //Dense sections are smaller as a bitmap of the whole section
+                        long[] bitmap = new long[SECTION_BLOCKS / Long.SIZE];
+                        for (int j = 0; j < positions.size(); j++) {
+                            short packed = positions.getShort(j);
+                            bitmap[packed >> 6] |= 1L << (packed & 63);
+                        }
+                        buf.writeLongArray(bitmap);
+                    } else {
+                        for (int j = 0; j < positions.size(); j++) {
+                            buf.writeShort(positions.getShort(j));
+                        }
+                    }
                 }
                 break;
             case ENERGY:
@@ -157,11 +304,29 @@ public class PacketTransmitterUpdate {
         PacketTransmitterUpdate packet = new PacketTransmitterUpdate(buf.readEnumValue(PacketType.class), Coord4D.read(buf));
         if (packet.packetType == PacketType.UPDATE) {
             packet.newNetwork = buf.readBoolean();
-            packet.transmitterCoords = new HashSet<>();
-            int numTransmitters = buf.readInt();
-
-            for (int i = 0; i < numTransmitters; i++) {
-                packet.transmitterCoords.add(Coord4D.read(buf));
+            int sectionCount = buf.readVarInt();
+            packet.sections = new Long2ObjectOpenHashMap<>(sectionCount);
+            packet.sectionsToSend = new LongArrayList(sectionCount);
+            for (int i = 0; i < sectionCount; i++) {
+                long section = buf.readLong();
+                int count = buf.readVarInt();
+                ShortList positions = new ShortArrayList(count);
+                if (count > BITMAP_THRESHOLD) {
+                    long[] bitmap = buf.readLongArray(new long[SECTION_BLOCKS / Long.SIZE]);
+                    for (int word = 0; word < bitmap.length; word++) {
+                        long bits = bitmap[word];
+                        while (bits != 0) {
+                            positions.add((short) (word << 6 | Long.numberOfTrailingZeros(bits)));
+                            bits &= bits - 1;
+                        }
+                    }
+                } else {
+                    for (int j = 0; j < count; j++) {
+                        positions.add(buf.readShort());
+                    }
+                }
+                packet.sections.put(section, positions);
+                packet.sectionsToSend.add(section);
             }
         } else if (packet.packetType == PacketType.ENERGY) {
             packet.power = buf.readDouble();
@@ -5,10 +5,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
 import mekanism.api.inventory.IgnoredIInventory;
 import mekanism.api.recipes.ChemicalInfuserRecipe;
 import mekanism.api.recipes.CombinerRecipe;
@@ -41,6 +44,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistry;
 
 //TODO: Should this be moved to API package?
@@ -48,46 +52,48 @@ import net.minecraftforge.registries.IForgeRegistry;
 public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements IRecipeType<RECIPE_TYPE> {
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
+    private static long cacheVersion;
 
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting");
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing", (recipe, inputs) -> inputs.add(recipe.getInput()));
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching", (recipe, inputs) -> inputs.add(recipe.getInput()));
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing");
+    public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing", (recipe, inputs) -> inputs.add(recipe.getLeftInput()).add(recipe.getRightInput()));
 
-    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining");
+    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining", (recipe, inputs) -> inputs.add(recipe.getMainInput()).add(recipe.getExtraInput()));
 
-    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating");
+    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing");
+    public static final MekanismRecipeType<FluidGasToGasRecipe> WASHING = create("washing", (recipe, inputs) -> inputs.add(recipe.getFluidInput()).add(recipe.getGasInput()));
 
-    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating");
+    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating");
+    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing");
+    public static final MekanismRecipeType<GasToItemStackRecipe> CRYSTALLIZING = create("crystallizing", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution");
+    public static final MekanismRecipeType<ItemStackGasToGasRecipe> DISSOLUTION = create("dissolution", (recipe, inputs) -> inputs.add(recipe.getItemInput()).add(recipe.getGasInput()));
 
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting");
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing", (recipe, inputs) -> inputs.add(recipe.getItemInput()).add(recipe.getGasInput()));
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying", (recipe, inputs) -> inputs.add(recipe.getItemInput()).add(recipe.getGasInput()));
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting", (recipe, inputs) -> inputs.add(recipe.getItemInput()).add(recipe.getGasInput()));
 
-    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion");
-    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing");
+    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion", (recipe, inputs) -> inputs.add(recipe.getInput()));
+    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion");
+    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing");
+    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing", (recipe, inputs) -> inputs.add(recipe.getItemInput()));
 
-    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction");
+    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction", (recipe, inputs) -> inputs.add(recipe.getInputSolid()).add(recipe.getInputFluid()).add(recipe.getInputGas()));
 
-    public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary");
+    public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary", (recipe, inputs) -> inputs.add(recipe.hasFluidToGas() ? recipe.getFluidInput() : null).add(recipe.hasGasToFluid() ? recipe.getGasInput() : null));
 
-    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing");
+    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing", (recipe, inputs) -> inputs.add(recipe.getInput()));
 
-    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name) {
-        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name);
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name,
+          @Nullable BiConsumer<RECIPE_TYPE, RecipeInputIndex<RECIPE_TYPE>.InputCollector> inputMapper) {
+        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name, inputMapper);
         types.add(type);
         return type;
     }
@@ -99,15 +105,31 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        cacheVersion++;
+        types.forEach(type -> {
+            type.cachedRecipes = Collections.emptyList();
+            type.inputIndex = null;
+        });
+    }
+
+    /**
+     * @return A counter that changes every time the cached recipes are cleared, for use in combination with the versions of the inputs of recipe holders.
+     */
+    public static long getCacheVersion() {
+        return cacheVersion;
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE> inputIndex;
+    @Nullable
+    private final BiConsumer<RECIPE_TYPE, RecipeInputIndex<RECIPE_TYPE>.InputCollector> inputMapper;
     private final ResourceLocation registryName;
     private final String name;
 
-    private MekanismRecipeType(String name) {
+    private MekanismRecipeType(String name, @Nullable BiConsumer<RECIPE_TYPE, RecipeInputIndex<RECIPE_TYPE>.InputCollector> inputMapper) {
         this.name = name;
+        this.inputMapper = inputMapper;
         this.registryName = Mekanism.rl(name);
     }
 
@@ -154,10 +176,18 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
                 }
             }
             cachedRecipes = recipes;
+            inputIndex = new RecipeInputIndex<>(recipes, inputMapper);
         }
         return cachedRecipes;
     }
 
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE> getInputIndex(@Nullable World world) {
+        //Make sure the recipes and the index over them are loaded
+        getRecipes(world);
+        return inputIndex;
+    }
+
     public Stream<RECIPE_TYPE> stream(@Nullable World world) {
         return getRecipes(world).stream();
     }
@@ -170,4 +200,63 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that have an item input that may accept the given item.
+     *
+     * @param input         Item that the match criteria requires one of the recipe's item inputs to accept.
+     * @param matchCriteria Criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        RecipeInputIndex<RECIPE_TYPE> index = getInputIndex(world);
+        return index == null ? null : index.findFirst(input, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that have a gas input that may accept the given gas.
+     *
+     * @param input         Gas that the match criteria requires one of the recipe's gas inputs to accept.
+     * @param matchCriteria Criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull GasStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input.getType(), matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that have a gas input that may accept the given gas.
+     *
+     * @param input         Gas that the match criteria requires one of the recipe's gas inputs to accept.
+     * @param matchCriteria Criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull Gas input, Predicate<RECIPE_TYPE> matchCriteria) {
+        RecipeInputIndex<RECIPE_TYPE> index = getInputIndex(world);
+        return index == null ? null : index.findFirst(input, matchCriteria);
+    }
+
+    /**
+     * Finds the first recipe that matches the given criteria, only checking the recipes that have a fluid input that may accept the given fluid.
+     *
+     * @param input         Fluid that the match criteria requires one of the recipe's fluid inputs to accept.
+     * @param matchCriteria Criteria the recipe has to match.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, @Nonnull FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        RecipeInputIndex<RECIPE_TYPE> index = getInputIndex(world);
+        return index == null ? null : index.findFirst(input, matchCriteria);
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull Gas input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    public boolean contains(@Nullable World world, @Nonnull FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package mekanism.common.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.FluidStackIngredient;
+import mekanism.api.recipes.inputs.GasStackIngredient;
+import mekanism.api.recipes.inputs.ItemStackIngredient;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Lookup of the recipes of a {@link MekanismRecipeType} by the item, gas, or fluid they take as an input, so that finding a recipe for an input only has to test the
+ * recipes that could possibly accept it instead of every recipe of the type.
+ *
+ * Recipes are stored by their position in the type's recipe list so that lookups still return the first matching recipe in the same order as a linear search would.
+ * Ingredients that cannot be broken down into the exact set of things they accept (for example ingredients that check NBT or custom ingredient implementations) are
+ * kept in a fallback list that is checked for every lookup.
+ */
+public class RecipeInputIndex<RECIPE extends MekanismRecipe> {
+
+    private final List<RECIPE> recipes;
+    private final Lookup<Item> items = new Lookup<>();
+    private final Lookup<Gas> gases = new Lookup<>();
+    private final Lookup<Fluid> fluids = new Lookup<>();
+
+    public RecipeInputIndex(@Nonnull List<RECIPE> recipes, @Nullable BiConsumer<RECIPE, InputCollector> inputMapper) {
+        this.recipes = recipes;
+        for (int index = 0; index < recipes.size(); index++) {
+            if (inputMapper == null) {
+                //We don't know what inputs the recipes have, so they all have to be checked
+                items.addFallback(index);
+                gases.addFallback(index);
+                fluids.addFallback(index);
+            } else {
+                inputMapper.accept(recipes.get(index), new InputCollector(index));
+            }
+        }
+    }
+
+    @Nullable
+    public RECIPE findFirst(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return items.findFirst(input.getItem(), matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE findFirst(@Nonnull GasStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return gases.findFirst(input.getType(), matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE findFirst(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return fluids.findFirst(input.getFluid(), matchCriteria);
+    }
+
+    @Nullable
+    public RECIPE findFirst(@Nonnull Gas input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return gases.findFirst(input, matchCriteria);
+    }
+
+    /**
+     * Used by the recipe types to declare the inputs of each recipe.
+     */
+    public class InputCollector {
+
+        private final int index;
+
+        private InputCollector(int index) {
+            this.index = index;
+        }
+
+        public InputCollector add(@Nullable ItemStackIngredient ingredient) {
+            if (ingredient != null && !mapItems(ingredient)) {
+                items.addFallback(index);
+            }
+            return this;
+        }
+
+        public InputCollector add(@Nullable GasStackIngredient ingredient) {
+            if (ingredient != null && !mapGases(ingredient)) {
+                gases.addFallback(index);
+            }
+            return this;
+        }
+
+        public InputCollector add(@Nullable FluidStackIngredient ingredient) {
+            if (ingredient != null && !mapFluids(ingredient)) {
+                fluids.addFallback(index);
+            }
+            return this;
+        }
+
+        /**
+         * @return {@code false} if the ingredient could not be fully mapped and the recipe needs to be checked for every item.
+         */
+        private boolean mapItems(ItemStackIngredient ingredient) {
+            if (ingredient instanceof ItemStackIngredient.Single) {
+                Ingredient vanillaIngredient = ((ItemStackIngredient.Single) ingredient).getInputRaw();
+                if (!vanillaIngredient.isSimple()) {
+                    //Non simple ingredients may match based on more than the item
+                    return false;
+                }
+                for (ItemStack stack : vanillaIngredient.getMatchingStacks()) {
+                    items.add(stack.getItem(), index);
+                }
+                return true;
+            } else if (ingredient instanceof ItemStackIngredient.Multi) {
+                boolean mapped = true;
+                for (ItemStackIngredient child : ((ItemStackIngredient.Multi) ingredient).getIngredients()) {
+                    mapped &= mapItems(child);
+                }
+                return mapped;
+            }
+            return false;
+        }
+
+        private boolean mapGases(GasStackIngredient ingredient) {
+            if (ingredient instanceof GasStackIngredient.Single || ingredient instanceof GasStackIngredient.Tagged) {
+                //Representations of these contain exactly the gases they accept
+                for (GasStack stack : ingredient.getRepresentations()) {
+                    gases.add(stack.getType(), index);
+                }
+                return true;
+            } else if (ingredient instanceof GasStackIngredient.Multi) {
+                boolean mapped = true;
+                for (GasStackIngredient child : ((GasStackIngredient.Multi) ingredient).getIngredients()) {
+                    mapped &= mapGases(child);
+                }
+                return mapped;
+            }
+            return false;
+        }
+
+        private boolean mapFluids(FluidStackIngredient ingredient) {
+            if (ingredient instanceof FluidStackIngredient.Single || ingredient instanceof FluidStackIngredient.Tagged) {
+                //Representations of these contain exactly the fluids they accept, any NBT checks are left to the match criteria
+                for (FluidStack stack : ingredient.getRepresentations()) {
+                    fluids.add(stack.getFluid(), index);
+                }
+                return true;
+            } else if (ingredient instanceof FluidStackIngredient.Multi) {
+                boolean mapped = true;
+                for (FluidStackIngredient child : ((FluidStackIngredient.Multi) ingredient).getIngredients()) {
+                    mapped &= mapFluids(child);
+                }
+                return mapped;
+            }
+            return false;
+        }
+    }
+
+    private class Lookup<KEY> {
+
+        private final Map<KEY, IntList> recipesByInput = new HashMap<>();
+        private final IntList fallback = new IntArrayList();
+
+        private void add(KEY key, int index) {
+            addSorted(recipesByInput.computeIfAbsent(key, k -> new IntArrayList()), index);
+        }
+
+        private void addFallback(int index) {
+            addSorted(fallback, index);
+        }
+
+        private void addSorted(IntList list, int index) {
+            //Recipes are mapped in order, so we only have to make sure we don't add the same recipe twice in a row
+            if (list.isEmpty() || list.getInt(list.size() - 1) != index) {
+                list.add(index);
+            }
+        }
+
+        @Nullable
+        private RECIPE findFirst(KEY key, Predicate<RECIPE> matchCriteria) {
+            IntList candidates = recipesByInput.get(key);
+            if (candidates == null) {
+                return findFirst(fallback, matchCriteria);
+            } else if (fallback.isEmpty()) {
+                return findFirst(candidates, matchCriteria);
+            }
+            //Merge the two sorted lists so that we keep the order of the recipes
+            int candidateIndex = 0;
+            int fallbackIndex = 0;
+            while (candidateIndex < candidates.size() || fallbackIndex < fallback.size()) {
+                int index;
+                if (fallbackIndex >= fallback.size()) {
+                    index = candidates.getInt(candidateIndex++);
+                } else if (candidateIndex >= candidates.size()) {
+                    index = fallback.getInt(fallbackIndex++);
+                } else {
+                    int candidate = candidates.getInt(candidateIndex);
+                    int fallbackCandidate = fallback.getInt(fallbackIndex);
+                    if (candidate < fallbackCandidate) {
+                        index = candidate;
+                        candidateIndex++;
+                    } else {
+                        index = fallbackCandidate;
+                        fallbackIndex++;
+                        if (candidate == fallbackCandidate) {
+                            //A recipe with multiple ingredients of this kind can be in both lists
+                            candidateIndex++;
+                        }
+                    }
+                }
+                RECIPE recipe = recipes.get(index);
+                if (matchCriteria.test(recipe)) {
+                    return recipe;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private RECIPE findFirst(IntList indices, Predicate<RECIPE> matchCriteria) {
+            for (int i = 0; i < indices.size(); i++) {
+                RECIPE recipe = recipes.get(indices.getInt(i));
+                if (matchCriteria.test(recipe)) {
+                    return recipe;
+                }
+            }
+            return null;
+        }
+    }
+}
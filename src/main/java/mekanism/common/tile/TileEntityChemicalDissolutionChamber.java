@@ -84,7 +84,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(injectTank, this::isValidGas, this::getWorld, this, 6, 65), RelativeSide.BOTTOM);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 26, 36),
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getItemInput().testType(item)), this, 26, 36),
               RelativeSide.TOP, RelativeSide.LEFT);
         builder.addSlot(outputSlot = GasInventorySlot.drain(outputTank, this, 155, 25), RelativeSide.RIGHT);
         //TODO: Make this be accessible from some side for automation??
@@ -119,6 +119,11 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputSlot.getVersion() + injectTank.getVersion();
+    }
+
     @Nullable
     @Override
     public ItemStackGasToGasRecipe getRecipe(int cacheIndex) {
@@ -130,7 +135,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -198,7 +203,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityOperationalM
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getGasInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas));
     }
 
     @Override
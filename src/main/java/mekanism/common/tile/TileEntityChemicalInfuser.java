@@ -52,6 +52,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements IGa
     public int gasOutput = 256;
 
     public CachedRecipe<ChemicalInfuserRecipe> cachedRecipe;
+    private long failedLookupVersion = UNTRACKED;
 
     public double clientEnergyUsed;
 
@@ -91,7 +92,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements IGa
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getLeftInput().testType(gas) || recipe.getRightInput().testType(gas));
     }
 
     @Override
@@ -124,6 +125,21 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements IGa
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + leftTank.getVersion() + rightTank.getVersion();
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Nullable
     @Override
     public ChemicalInfuserRecipe getRecipe(int cacheIndex) {
@@ -135,7 +151,7 @@ public class TileEntityChemicalInfuser extends TileEntityMekanism implements IGa
         if (rightGas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(leftGas, rightGas));
+        return findFirstRecipe(leftGas, recipe -> recipe.test(leftGas, rightGas));
     }
 
     @Nullable
@@ -71,7 +71,7 @@ public class TileEntityChemicalOxidizer extends TileEntityOperationalMachine<Ite
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 26, 36), RelativeSide.LEFT);
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 26, 36), RelativeSide.LEFT);
         builder.addSlot(outputSlot = GasInventorySlot.drain(gasTank, this, 155, 25), RelativeSide.RIGHT);
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 155, 5), RelativeSide.BOTTOM, RelativeSide.TOP);
         return builder.build();
@@ -102,6 +102,11 @@ public class TileEntityChemicalOxidizer extends TileEntityOperationalMachine<Ite
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputSlot.getVersion();
+    }
+
     @Nullable
     @Override
     public ItemStackToGasRecipe getRecipe(int cacheIndex) {
@@ -109,7 +114,7 @@ public class TileEntityChemicalOxidizer extends TileEntityOperationalMachine<Ite
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
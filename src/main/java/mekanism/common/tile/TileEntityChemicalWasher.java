@@ -26,6 +26,7 @@ import mekanism.api.sustained.ISustainedData;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.base.ITankManager;
+import mekanism.common.base.VersionedFluidTank;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
@@ -51,7 +52,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
-import net.minecraftforge.fluids.capability.templates.FluidTank;
 import net.minecraftforge.items.CapabilityItemHandler;
 
 public class TileEntityChemicalWasher extends TileEntityMekanism implements IGasHandler, IFluidHandlerWrapper, ISustainedData, ITankManager,
@@ -59,12 +59,13 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
 
     public static final int MAX_GAS = 10_000;
     public static final int MAX_FLUID = 10_000;
-    public FluidTank fluidTank;
+    public VersionedFluidTank fluidTank;
     public GasTank inputTank;
     public GasTank outputTank;
     public int gasOutput = 256;
 
     public CachedRecipe<FluidGasToGasRecipe> cachedRecipe;
+    private long failedLookupVersion = UNTRACKED;
 
     public double clientEnergyUsed;
 
@@ -85,7 +86,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
 
     @Override
     protected void presetVariables() {
-        fluidTank = new FluidTank(MAX_FLUID);
+        fluidTank = new VersionedFluidTank(MAX_FLUID);
         inputTank = new GasTank(MAX_GAS);
         outputTank = new GasTank(MAX_GAS);
     }
@@ -94,7 +95,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
-        builder.addSlot(fluidSlot = FluidInventorySlot.fill(fluidTank, fluid -> containsRecipe(recipe -> recipe.getFluidInput().testType(fluid)), this, 180, 71),
+        builder.addSlot(fluidSlot = FluidInventorySlot.fill(fluidTank, fluid -> containsRecipe(fluid, recipe -> recipe.getFluidInput().testType(fluid)), this, 180, 71),
               RelativeSide.LEFT);
         //Output slot for the fluid container that was used as an input
         builder.addSlot(OutputInventorySlot.at(this, 180, 102), RelativeSide.TOP);
@@ -132,6 +133,21 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + fluidTank.getVersion() + inputTank.getVersion();
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Nullable
     @Override
     public FluidGasToGasRecipe getRecipe(int cacheIndex) {
@@ -143,7 +159,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid, gasStack));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid, gasStack));
     }
 
     @Nullable
@@ -164,7 +180,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getGasInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas));
     }
 
     @Override
@@ -218,7 +234,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
     @Override
     public boolean canReceiveGas(Direction side, @Nonnull Gas type) {
         if (getTank(side) == inputTank) {
-            return getTank(side).canReceive(type) && containsRecipe(recipe -> recipe.getGasInput().testType(type));
+            return getTank(side).canReceive(type) && containsRecipe(type, recipe -> recipe.getGasInput().testType(type));
         }
         return false;
     }
@@ -290,7 +306,7 @@ public class TileEntityChemicalWasher extends TileEntityMekanism implements IGas
         FluidStack currentFluid = fluidTank.getFluid();
         if (currentFluid.isEmpty()) {
             //If we don't have a fluid currently stored, then check if the fluid wanting to be input is valid for this machine
-            return containsRecipe(recipe -> recipe.getFluidInput().testType(fluid));
+            return containsRecipe(fluid, recipe -> recipe.getFluidInput().testType(fluid));
         }
         //Otherwise return true if the fluid is the same as the one we already have stored
         return currentFluid.isFluidEqual(fluid);
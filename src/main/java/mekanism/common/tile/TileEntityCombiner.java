@@ -85,8 +85,8 @@ public class TileEntityCombiner extends TileEntityBasicMachine<CombinerRecipe> {
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         //TODO: Should we limit ACTUAL insertion to be based on the other slot's contents?
-        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getMainInput().testType(item)), this, 56, 17));
-        builder.addSlot(extraInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getExtraInput().testType(item)), this, 56, 53));
+        builder.addSlot(mainInputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getMainInput().testType(item)), this, 56, 17));
+        builder.addSlot(extraInputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getExtraInput().testType(item)), this, 56, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 31, 35));
         return builder.build();
@@ -115,6 +115,11 @@ public class TileEntityCombiner extends TileEntityBasicMachine<CombinerRecipe> {
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + mainInputSlot.getVersion() + extraInputSlot.getVersion();
+    }
+
     @Nullable
     @Override
     public CombinerRecipe getRecipe(int cacheIndex) {
@@ -126,7 +131,7 @@ public class TileEntityCombiner extends TileEntityBasicMachine<CombinerRecipe> {
         if (extraStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extraStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, extraStack));
     }
 
     @Nullable
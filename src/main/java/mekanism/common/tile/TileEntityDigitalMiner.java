@@ -1,5 +1,7 @@
 package mekanism.common.tile;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -7,6 +9,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +37,7 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.miner.MItemStackFilter;
 import mekanism.common.content.miner.MTagFilter;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerSearchExecutor;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.transporter.InvStack;
@@ -47,6 +51,7 @@ import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.inventory.slot.holder.InventorySlotHelper;
 import mekanism.common.network.PacketTileEntity;
 import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.interfaces.ITileFilterHolder;
@@ -77,6 +82,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.Region;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -117,6 +123,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     public int delayLength = BASE_DELAY;
 
     public int clientToMine;
+    public int clientQueueDepth;
+    public long clientSearchTime;
 
     public boolean silkTouch;
 
@@ -125,8 +133,20 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     public double prevEnergy;
 
     public int delayTicks;
+    private final TransitRequest ejectMap = new TransitRequest();
 
     public boolean initCalc = false;
+    /**
+     * Scan results read from NBT, restored once we have a world instead of rescanning the entire area.
+     */
+    @Nullable
+    private ListNBT savedToMine;
+    @Nullable
+    private ListNBT savedReplace;
+    /**
+     * Whether a search was still queued or running when we got saved, searches don't survive unloading so it has to be queued again.
+     */
+    private boolean searchOnLoad;
 
     public int numPowering;
 
@@ -176,12 +196,18 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
 
         if (!isRemote()) {
             if (!initCalc) {
-                if (searcher.state == State.FINISHED) {
+                if (searcher.state == State.FINISHED && savedToMine != null) {
+                    //The blocks get validated as we go to mine them, so we can resume right away
+                    readScanResults(savedToMine, savedReplace);
+                } else if (searcher.state == State.FINISHED || searchOnLoad) {
                     boolean prevRunning = running;
                     reset();
                     start();
                     running = prevRunning;
                 }
+                savedToMine = null;
+                savedReplace = null;
+                searchOnLoad = false;
                 initCalc = true;
             }
 
@@ -266,32 +292,29 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
                 setActive(false);
             }
 
-            TransitRequest ejectMap = getEjectItemMap();
-            if (doEject && delayTicks == 0 && !ejectMap.isEmpty()) {
-                TileEntity ejectInv = getEjectInv();
-                TileEntity ejectTile = getEjectTile();
-                if (ejectInv != null && ejectTile != null) {
-                    TransitResponse response;
-                    Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(ejectInv, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, getOppositeDirection()));
-                    if (capability.isPresent()) {
-                        response = TransporterUtils.insert(ejectTile, capability.get(), ejectMap, null, true, 0);
-                    } else {
-                        response = InventoryUtils.putStackInInventory(ejectInv, ejectMap, getOppositeDirection(), false);
-                    }
-                    if (!response.isEmpty()) {
-                        response.getInvStack(ejectTile, getOppositeDirection()).use();
+            if (doEject && delayTicks == 0) {
+                TransitRequest ejectMap = getEjectItemMap();
+                if (!ejectMap.isEmpty()) {
+                    TileEntity ejectInv = getEjectInv();
+                    TileEntity ejectTile = getEjectTile();
+                    if (ejectInv != null && ejectTile != null) {
+                        TransitResponse response;
+                        Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(ejectInv, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, getOppositeDirection()));
+                        if (capability.isPresent()) {
+                            response = TransporterUtils.insert(ejectTile, capability.get(), ejectMap, null, true, 0);
+                        } else {
+                            response = InventoryUtils.putStackInInventory(ejectInv, ejectMap, getOppositeDirection(), false);
+                        }
+                        if (!response.isEmpty()) {
+                            response.getInvStack(ejectTile, getOppositeDirection()).use();
+                        }
+                        delayTicks = 10;
                     }
-                    delayTicks = 10;
+                    ejectMap.clear();
                 }
             } else if (delayTicks > 0) {
                 delayTicks--;
             }
-
-            if (playersUsing.size() > 0) {
-                for (PlayerEntity player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getSmallPacket(new TileNetworkList())), (ServerPlayerEntity) player);
-                }
-            }
             prevEnergy = getEnergy();
         }
     }
@@ -400,7 +423,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     }
 
     public TransitRequest getEjectItemMap() {
-        TransitRequest request = new TransitRequest();
+        TransitRequest request = ejectMap;
+        request.clear();
         for (int i = mainSlots.size() - 1; i >= 0; i--) {
             IInventorySlot slot = mainSlots.get(i);
             if (!slot.isEmpty()) {
@@ -480,8 +504,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     }
 
     public void stop() {
-        if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+        if (searcher.isSearching()) {
+            searcher.cancel();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -491,10 +515,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
     }
 
     public void reset() {
+        if (searcher.isSearching()) {
+            searcher.cancel();
+        }
         searcher = new ThreadMinerSearch(this);
         running = false;
         oresToMine.clear();
         replaceMap.clear();
+        savedToMine = null;
+        savedReplace = null;
         missingStack = ItemStack.EMPTY;
         setActive(false);
         MekanismUtils.saveChunk(this);
@@ -523,24 +552,94 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         running = nbtTags.getBoolean("running");
         delay = nbtTags.getInt("delay");
         numPowering = nbtTags.getInt("numPowering");
-        searcher.state = State.values()[nbtTags.getInt("state")];
+        State state = State.values()[nbtTags.getInt("state")];
+        searchOnLoad = state == State.QUEUED || state == State.SEARCHING;
+        searcher.state = searchOnLoad ? State.IDLE : state;
         setConfigurationData(nbtTags);
+        if (nbtTags.contains("toMine", NBT.TAG_LIST)) {
+            savedToMine = nbtTags.getList("toMine", NBT.TAG_COMPOUND);
+            savedReplace = nbtTags.getList("replace", NBT.TAG_COMPOUND);
+        }
     }
 
     @Nonnull
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
-        if (searcher.state == State.SEARCHING) {
-            reset();
-        }
         nbtTags.putBoolean("running", running);
         nbtTags.putInt("delay", delay);
         nbtTags.putInt("numPowering", numPowering);
-        nbtTags.putInt("state", searcher.state.ordinal());
+        //Searches are left running, if they are not done yet when we get loaded again they get queued again
+        nbtTags.putInt("state", searchOnLoad ? State.QUEUED.ordinal() : searcher.state.ordinal());
+        if (searcher.state == State.FINISHED) {
+            writeScanResults(nbtTags);
+        }
         return getConfigurationData(nbtTags);
     }
 
+    /**
+     * Writes the blocks left to mine, and the filters they matched, as packed bit sets so that the area does not have to be scanned again when the miner gets loaded.
+     */
+    private void writeScanResults(CompoundNBT nbtTags) {
+        if (savedToMine != null) {
+            //We have not been ticked yet since we got loaded, just write back what we loaded
+            nbtTags.put("toMine", savedToMine);
+            nbtTags.put("replace", savedReplace);
+            return;
+        }
+        ListNBT toMine = new ListNBT();
+        for (Entry<Chunk3D, BitSet> entry : oresToMine.entrySet()) {
+            CompoundNBT chunkTag = new CompoundNBT();
+            chunkTag.putInt("x", entry.getKey().x);
+            chunkTag.putInt("z", entry.getKey().z);
+            chunkTag.putLongArray("indices", entry.getValue().toLongArray());
+            toMine.add(chunkTag);
+        }
+        Int2ObjectMap<BitSet> filterIndices = new Int2ObjectOpenHashMap<>();
+        for (Entry<Integer, MinerFilter<?>> entry : replaceMap.entrySet()) {
+            //Indices without a filter are the same as not having an entry
+            if (entry.getValue() != null) {
+                int filterIndex = filters.indexOf(entry.getValue());
+                if (filterIndex != -1) {
+                    filterIndices.computeIfAbsent(filterIndex, index -> new BitSet()).set(entry.getKey());
+                }
+            }
+        }
+        ListNBT replace = new ListNBT();
+        for (Int2ObjectMap.Entry<BitSet> entry : filterIndices.int2ObjectEntrySet()) {
+            CompoundNBT filterTag = new CompoundNBT();
+            filterTag.putInt("filter", entry.getIntKey());
+            filterTag.putLongArray("indices", entry.getValue().toLongArray());
+            replace.add(filterTag);
+        }
+        nbtTags.put("toMine", toMine);
+        nbtTags.put("replace", replace);
+    }
+
+    private void readScanResults(ListNBT toMine, ListNBT replace) {
+        DimensionType dimension = getWorld().getDimension().getType();
+        oresToMine.clear();
+        replaceMap.clear();
+        for (int i = 0; i < toMine.size(); i++) {
+            CompoundNBT chunkTag = toMine.getCompound(i);
+            BitSet indices = BitSet.valueOf(chunkTag.getLongArray("indices"));
+            if (!indices.isEmpty()) {
+                oresToMine.put(new Chunk3D(chunkTag.getInt("x"), chunkTag.getInt("z"), dimension), indices);
+            }
+        }
+        for (int i = 0; i < replace.size(); i++) {
+            CompoundNBT filterTag = replace.getCompound(i);
+            int filterIndex = filterTag.getInt("filter");
+            if (filterIndex >= 0 && filterIndex < filters.size()) {
+                MinerFilter<?> filter = filters.get(filterIndex);
+                BitSet indices = BitSet.valueOf(filterTag.getLongArray("indices"));
+                for (int index = indices.nextSetBit(0); index >= 0; index = indices.nextSetBit(index + 1)) {
+                    replaceMap.put(index, filter);
+                }
+            }
+        }
+    }
+
     private void readBasicData(PacketBuffer dataStream) {
         setRadius(dataStream.readInt());//client allowed to use whatever server sends
         minY = dataStream.readInt();
@@ -552,6 +651,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         numPowering = dataStream.readInt();
         searcher.state = dataStream.readEnumValue(State.class);
         clientToMine = dataStream.readInt();
+        clientQueueDepth = dataStream.readInt();
+        clientSearchTime = dataStream.readLong();
         inverse = dataStream.readBoolean();
         missingStack = dataStream.readItemStack();
     }
@@ -595,28 +696,19 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
                     // Move filter up
                     int filterIndex = dataStream.readInt();
                     filters.swap(filterIndex, filterIndex - 1);
-                    //TODO: I believe this is meant to sync the changes to all the players currently using the inventory
-                    /*for (PlayerEntity player : playersUsing) {
-                        openInventory(player);
-                    }*/
+                    sendFilters();
                     break;
                 }
                 case 12: {
                     // Move filter down
                     int filterIndex = dataStream.readInt();
                     filters.swap(filterIndex, filterIndex + 1);
-                    //TODO: I believe this is meant to sync the changes to all the players currently using the inventory
-                    /*for (PlayerEntity player : playersUsing) {
-                        openInventory(player);
-                    }*/
+                    sendFilters();
                     break;
                 }
             }
-
+            //The rest of the changes get sent by the auto sync
             MekanismUtils.saveChunk(this);
-            for (PlayerEntity player : playersUsing) {
-                Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getGenericPacket(new TileNetworkList())), (ServerPlayerEntity) player);
-            }
             return;
         }
 
@@ -632,18 +724,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
                 for (int i = 0; i < amount; i++) {
                     filters.add(MinerFilter.readFromPacket(dataStream));
                 }
-            } else if (type == 1) {
-                readBasicData(dataStream);
             } else if (type == 2) {
                 filters.clear();
                 int amount = dataStream.readInt();
                 for (int i = 0; i < amount; i++) {
                     filters.add(MinerFilter.readFromPacket(dataStream));
                 }
-            } else if (type == 3) {
-                running = dataStream.readBoolean();
-                clientToMine = dataStream.readInt();
-                missingStack = dataStream.readItemStack();
             }
             //TODO: Does this get handled by TileEntityMekanism
             if (wasActive != getActive()) {
@@ -663,16 +749,17 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         data.add(numPowering);
         data.add(searcher.state);
 
-        if (searcher.state == State.SEARCHING) {
-            data.add(searcher.found);
-        } else {
-            data.add(getSize());
-        }
+        data.add(getToMine());
+        addSearchStatus(data);
 
         data.add(inverse);
         data.add(missingStack);
     }
 
+    private int getToMine() {
+        return searcher.isSearching() ? searcher.found : getSize();
+    }
+
     @Override
     public TileNetworkList getNetworkedData(TileNetworkList data) {
         super.getNetworkedData(data);
@@ -685,27 +772,42 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         return data;
     }
 
-    public TileNetworkList getSmallPacket(TileNetworkList data) {
-        super.getNetworkedData(data);
-
-        data.add(3);
+    private void addSearchStatus(TileNetworkList data) {
+        data.add(MinerSearchExecutor.getQueueDepth());
+        data.add(searcher.searchTime);
+    }
 
-        data.add(running);
+    @Override
+    protected boolean hasSyncedFields() {
+        return true;
+    }
 
-        if (searcher.state == State.SEARCHING) {
-            data.add(searcher.found);
-        } else {
-            data.add(getSize());
-        }
-        data.add(missingStack);
-        return data;
+    @Override
+    protected void addSyncedFields(SyncedData data) {
+        super.addSyncedFields(data);
+        data.addInt(() -> radius, this::setRadius);
+        data.addInt(() -> minY, value -> minY = value);
+        data.addInt(() -> maxY, value -> maxY = value);
+        data.addBoolean(() -> doEject, value -> doEject = value);
+        data.addBoolean(() -> doPull, value -> doPull = value);
+        data.addBoolean(() -> running, value -> running = value);
+        data.addBoolean(() -> silkTouch, value -> silkTouch = value);
+        data.addInt(() -> numPowering, value -> numPowering = value);
+        data.addEnum(State.class, () -> searcher.state, value -> searcher.state = value);
+        data.addInt(this::getToMine, value -> clientToMine = value);
+        data.addInt(MinerSearchExecutor::getQueueDepth, value -> clientQueueDepth = value);
+        data.addLong(() -> searcher.searchTime, value -> clientSearchTime = value);
+        data.addBoolean(() -> inverse, value -> inverse = value);
+        data.addItemStack(() -> missingStack, stack -> missingStack = stack);
     }
 
-    public TileNetworkList getGenericPacket(TileNetworkList data) {
-        super.getNetworkedData(data);
-        data.add(1);
-        addBasicData(data);
-        return data;
+    /**
+     * Sends the filters to the players using the miner, as the auto sync does not include them.
+     */
+    private void sendFilters() {
+        for (PlayerEntity player : playersUsing) {
+            Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getFilterPacket()), (ServerPlayerEntity) player);
+        }
     }
 
     @Override
@@ -767,6 +869,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         }
     }
 
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        //The search got saved as still needing to run, so it gets queued again when we load instead of searching an unloaded area now
+        if (searcher.isSearching()) {
+            searcher.cancel();
+        }
+    }
+
     @Override
     public void onBreak() {
         for (int x = -1; x <= +1; x++) {
@@ -821,6 +932,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
             Item item = ItemRegistryUtils.getByName((String) arguments[0]);
             if (item != Items.AIR) {
                 filters.add(new MItemStackFilter(new ItemStack(item)));
+                sendFilters();
             }
             return new Object[]{"Added filter."};
         } else if (method == 4) {
@@ -834,6 +946,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
                 if (filter instanceof MItemStackFilter) {
                     if (MekanismUtils.getID(((MItemStackFilter) filter).getItemStack()) == id) {
                         iter.remove();
+                        sendFilters();
                         return new Object[]{"Removed filter."};
                     }
                 }
@@ -847,6 +960,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
             MTagFilter filter = new MTagFilter();
             filter.setTagName(ore);
             filters.add(filter);
+            sendFilters();
             return new Object[]{"Added filter."};
         } else if (method == 6) {
             if (arguments.length < 1 || !(arguments[0] instanceof String)) {
@@ -859,6 +973,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
                 if (filter instanceof MTagFilter) {
                     if (((MTagFilter) filter).getTagName().equals(ore)) {
                         iter.remove();
+                        sendFilters();
                         return new Object[]{"Removed filter."};
                     }
                 }
@@ -876,9 +991,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IActiv
         } else if (method == 10) {
             return new Object[]{searcher != null ? searcher.found : 0};
         }
-        for (PlayerEntity player : playersUsing) {
-            Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getGenericPacket(new TileNetworkList())), (ServerPlayerEntity) player);
-        }
         return null;
     }
 
@@ -26,6 +26,7 @@ import mekanism.api.sustained.ISustainedData;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.base.ITankManager;
+import mekanism.common.base.VersionedFluidTank;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
@@ -52,7 +53,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
-import net.minecraftforge.fluids.capability.templates.FluidTank;
 import net.minecraftforge.items.CapabilityItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -64,7 +64,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
     /**
      * This separator's water slot.
      */
-    public FluidTank fluidTank;
+    public VersionedFluidTank fluidTank;
     /**
      * The maximum amount of gas this block can store.
      */
@@ -90,6 +90,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
      */
     public GasMode dumpRight = GasMode.IDLE;
     public CachedRecipe<ElectrolysisRecipe> cachedRecipe;
+    private long failedLookupVersion = UNTRACKED;
     public double clientEnergyUsed;
 
     private final IOutputHandler<@NonNull Pair<GasStack, GasStack>> outputHandler;
@@ -109,7 +110,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
 
     @Override
     protected void presetVariables() {
-        fluidTank = new FluidTank(24_000);
+        fluidTank = new VersionedFluidTank(24_000);
         leftTank = new GasTank(MAX_GAS);
         rightTank = new GasTank(MAX_GAS);
     }
@@ -118,7 +119,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
-        builder.addSlot(fluidSlot = FluidInventorySlot.fill(fluidTank, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this, 26, 35),
+        builder.addSlot(fluidSlot = FluidInventorySlot.fill(fluidTank, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid)), this, 26, 35),
               RelativeSide.FRONT);
         builder.addSlot(leftOutputSlot = GasInventorySlot.drain(leftTank, this, 59, 52), RelativeSide.LEFT);
         builder.addSlot(rightOutputSlot = GasInventorySlot.drain(rightTank, this, 101, 52), RelativeSide.RIGHT);
@@ -175,6 +176,21 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + fluidTank.getVersion();
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Nullable
     @Override
     public ElectrolysisRecipe getRecipe(int cacheIndex) {
@@ -182,7 +198,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
@@ -341,7 +357,7 @@ public class TileEntityElectrolyticSeparator extends TileEntityMekanism implemen
         FluidStack currentFluid = fluidTank.getFluid();
         if (currentFluid.isEmpty()) {
             //If we don't have a fluid currently stored, then check if the fluid wanting to be input is valid for this machine
-            return containsRecipe(recipe -> recipe.getInput().testType(fluid));
+            return containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid));
         }
         //Otherwise return true if the fluid is the same as the one we already have stored
         return currentFluid.isFluidEqual(fluid);
@@ -29,6 +29,7 @@ import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.inventory.slot.holder.InventorySlotHelper;
 import mekanism.common.network.PacketTileEntity;
 import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.interfaces.ITileFilterHolder;
 import mekanism.common.util.CapabilityUtils;
@@ -60,12 +61,13 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
     public boolean singleItem;
     public int rrIndex = 0;
     public int delayTicks;
+    private final TransitRequest ejectRequest = new TransitRequest();
+    private final Finder strictFinder = new StrictFilterFinder();
     public String[] methods = {"setDefaultColor", "setRoundRobin", "setAutoEject", "addFilter", "removeFilter", "addOreFilter", "removeOreFilter", "setSingleItem"};
 
     public TileEntityLogisticalSorter() {
         super(MekanismBlocks.LOGISTICAL_SORTER);
         rapidChangeThreshold = 3;
-        doAutoSync = false;
     }
 
     @Nonnull
@@ -123,23 +125,19 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                     }
 
                     if (!sentItems && autoEject) {
-                        TransitRequest request = TransitRequest.buildInventoryMap(back, getOppositeDirection(), singleItem ? 1 : 64, new StrictFilterFinder());
+                        TransitRequest request = ejectRequest.readInventory(back, getOppositeDirection(), singleItem ? 1 : 64, strictFinder);
                         TransitResponse response = emitItemToTransporter(front, request, color, 0);
                         if (!response.isEmpty()) {
                             response.getInvStack(back, getDirection()).use(response.getSendingAmount());
                             back.markDirty();
                             setActive(true);
                         }
+                        ejectRequest.clear();
                     }
                 }
 
                 delayTicks = 10;
             }
-            if (playersUsing.size() > 0) {
-                for (PlayerEntity player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getGenericPacket(new TileNetworkList())), (ServerPlayerEntity) player);
-                }
-            }
         }
     }
 
@@ -224,18 +222,12 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                 // Move filter up
                 int filterIndex = dataStream.readInt();
                 filters.swap(filterIndex, filterIndex - 1);
-                for (PlayerEntity player : playersUsing) {
-                    //TODO: I believe this is meant to sync the changes to all the players currently using the inventory
-                    //openInventory(player);
-                }
+                sendFilters();
             } else if (type == 4) {
                 // Move filter down
                 int filterIndex = dataStream.readInt();
                 filters.swap(filterIndex, filterIndex + 1);
-                for (PlayerEntity player : playersUsing) {
-                    //TODO: I believe this is meant to sync the changes to all the players currently using the inventory
-                    //openInventory(player);
-                }
+                sendFilters();
             } else if (type == 5) {
                 singleItem = !singleItem;
             }
@@ -251,8 +243,6 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
             if (type == 0) {
                 readState(dataStream);
                 readFilters(dataStream);
-            } else if (type == 1) {
-                readState(dataStream);
             } else if (type == 2) {
                 readFilters(dataStream);
             }
@@ -310,19 +300,27 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
         return data;
     }
 
-    public TileNetworkList getGenericPacket(TileNetworkList data) {
-        super.getNetworkedData(data);
-        data.add(1);
-        if (color != null) {
-            data.add(TransporterUtils.colors.indexOf(color));
-        } else {
-            data.add(-1);
-        }
+    @Override
+    protected boolean hasSyncedFields() {
+        return true;
+    }
 
-        data.add(autoEject);
-        data.add(roundRobin);
-        data.add(singleItem);
-        return data;
+    @Override
+    protected void addSyncedFields(SyncedData data) {
+        super.addSyncedFields(data);
+        data.addInt(() -> color == null ? -1 : TransporterUtils.colors.indexOf(color), index -> color = index == -1 ? null : TransporterUtils.colors.get(index));
+        data.addBoolean(() -> autoEject, value -> autoEject = value);
+        data.addBoolean(() -> roundRobin, value -> roundRobin = value);
+        data.addBoolean(() -> singleItem, value -> singleItem = value);
+    }
+
+    /**
+     * Sends the filters to the players using the sorter, as the auto sync does not include them.
+     */
+    private void sendFilters() {
+        for (PlayerEntity player : playersUsing) {
+            Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getFilterPacket()), (ServerPlayerEntity) player);
+        }
     }
 
     @Override
@@ -497,6 +495,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                 filter.min = ((Double) arguments[3]).intValue();
                 filter.max = ((Double) arguments[4]).intValue();
                 filters.add(filter);
+                sendFilters();
                 return new Object[]{"Added filter."};
             } else if (method == 4) {
                 if (arguments.length != 1 || !(arguments[0] instanceof String)) {
@@ -509,6 +508,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                     if (filter instanceof TItemStackFilter) {
                         if (StackUtils.equalsWildcard(((TItemStackFilter) filter).getItemStack(), stack)) {
                             iter.remove();
+                            sendFilters();
                             return new Object[]{"Removed filter."};
                         }
                     }
@@ -522,6 +522,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                 filter.setTagName((String) arguments[0]);
                 filter.color = EnumColor.getFromDyeName((String) arguments[1]);
                 filters.add(filter);
+                sendFilters();
                 return new Object[]{"Added filter."};
             } else if (method == 6) {
                 if (arguments.length != 1 || !(arguments[0] instanceof String)) {
@@ -534,6 +535,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                     if (filter instanceof TTagFilter) {
                         if (((TTagFilter) filter).getTagName().equals(ore)) {
                             iter.remove();
+                            sendFilters();
                             return new Object[]{"Removed filter."};
                         }
                     }
@@ -548,9 +550,6 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
             }
         }
 
-        for (PlayerEntity player : playersUsing) {
-            Mekanism.packetHandler.sendTo(new PacketTileEntity(this, getGenericPacket(new TileNetworkList())), (ServerPlayerEntity) player);
-        }
         return null;
     }
 
@@ -105,10 +105,10 @@ public class TileEntityMetallurgicInfuser extends TileEntityOperationalMachine<M
         //TODO: Verify that it is properly querying the infusion tank's type if it changes
         builder.addSlot(inputSlot = InputInventorySlot.at(stack -> {
             if (!infusionTank.isEmpty()) {
-                return containsRecipe(recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
+                return containsRecipe(stack, recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
             }
             //Otherwise just look for items that can be used
-            return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+            return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack));
         }, this, 51, 43));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 109, 43));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 143, 35));
@@ -139,6 +139,11 @@ public class TileEntityMetallurgicInfuser extends TileEntityOperationalMachine<M
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputSlot.getVersion() + infusionTank.getVersion();
+    }
+
     @Nullable
     @Override
     public MetallurgicInfuserRecipe getRecipe(int cacheIndex) {
@@ -150,7 +155,7 @@ public class TileEntityMetallurgicInfuser extends TileEntityOperationalMachine<M
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Nullable
@@ -146,6 +146,14 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
         }
     }
 
+    @Override
+    public void doUpdate(BlockPos changedPos) {
+        if (!isRemote() && structure != null && getProtocol().isStillValid(changedPos)) {
+            return;
+        }
+        doUpdate();
+    }
+
     public void sendPacketToRenderer() {
         if (structure != null) {
             for (Coord4D obj : structure.locations) {
@@ -77,7 +77,7 @@ public class TileEntityPrecisionSawmill extends TileEntityBasicMachine<SawmillRe
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 56, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 56, 17));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(secondaryOutputSlot = OutputInventorySlot.at(this, 132, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 56, 53));
@@ -107,6 +107,11 @@ public class TileEntityPrecisionSawmill extends TileEntityBasicMachine<SawmillRe
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputSlot.getVersion();
+    }
+
     @Nullable
     @Override
     public SawmillRecipe getRecipe(int cacheIndex) {
@@ -114,7 +119,7 @@ public class TileEntityPrecisionSawmill extends TileEntityBasicMachine<SawmillRe
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
@@ -28,6 +28,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.base.ITankManager;
+import mekanism.common.base.VersionedFluidTank;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.InputInventorySlot;
@@ -60,7 +61,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
-import net.minecraftforge.fluids.capability.templates.FluidTank;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine<PressurizedReactionRecipe> implements IFluidHandlerWrapper, IGasHandler, ISustainedData,
@@ -68,7 +68,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
 
     private static final String[] methods = new String[]{"getEnergy", "getProgress", "isActive", "facing", "canOperate", "getMaxEnergy", "getEnergyNeeded",
                                                          "getFluidStored", "getGasStored"};
-    public FluidTank inputFluidTank = new FluidTank(10000);
+    public VersionedFluidTank inputFluidTank = new VersionedFluidTank(10000);
     public GasTank inputGasTank = new GasTank(10000);
     public GasTank outputGasTank = new GasTank(10000);
 
@@ -135,7 +135,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 141, 19));
         return builder.build();
@@ -164,6 +164,11 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputSlot.getVersion() + inputFluidTank.getVersion() + inputGasTank.getVersion();
+    }
+
     @Nullable
     @Override
     public PressurizedReactionRecipe getRecipe(int cacheIndex) {
@@ -179,7 +184,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityBasicMachine
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, fluid, gas));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, fluid, gas));
     }
 
     @Nullable
@@ -171,6 +171,10 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
                         markDirty();
                     }
                 }
+                if (hasFrequency() && frequency.updateContentsChanged()) {
+                    //The buffers are saved by the manager of the frequency
+                    manager.markDirty();
+                }
             } else {
                 frequency = null;
                 if (lastFreq != null) {
@@ -184,17 +188,16 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
         return frequency != null && frequency.valid;
     }
 
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        FrequencyManager.deactivate(this, frequency);
+    }
+
     @Override
     public void remove() {
         super.remove();
-        if (!isRemote()) {
-            if (frequency != null) {
-                FrequencyManager manager = getManager(frequency);
-                if (manager != null) {
-                    manager.deactivate(Coord4D.get(this));
-                }
-            }
-        }
+        FrequencyManager.deactivate(this, frequency);
     }
 
     @Override
@@ -225,15 +228,15 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
         for (Frequency freq : manager.getFrequencies()) {
             if (freq.name.equals(name)) {
                 frequency = (InventoryFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(this));
+                manager.activate(Coord4D.get(this), frequency);
                 markDirty();
                 return;
             }
         }
 
         Frequency freq = new InventoryFrequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
-        freq.activeCoords.add(Coord4D.get(this));
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = (InventoryFrequency) freq;
         MekanismUtils.saveChunk(this);
         markDirty();
@@ -27,6 +27,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.base.FluidHandlerWrapper;
 import mekanism.common.base.IFluidHandlerWrapper;
 import mekanism.common.base.ITankManager;
+import mekanism.common.base.VersionedFluidTank;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
@@ -56,13 +57,12 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
-import net.minecraftforge.fluids.capability.templates.FluidTank;
 
 public class TileEntityRotaryCondensentrator extends TileEntityMekanism implements ISustainedData, IFluidHandlerWrapper, IGasHandler, ITankManager,
       ITileCachedRecipeHolder<RotaryRecipe> {
 
     public GasTank gasTank;
-    public FluidTank fluidTank;
+    public VersionedFluidTank fluidTank;
     /**
      * True: fluid -> gas
      *
@@ -78,6 +78,7 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
     private final IInputHandler<@NonNull GasStack> gasInputHandler;
 
     private CachedRecipe<RotaryRecipe> cachedRecipe;
+    private long failedLookupVersion = UNTRACKED;
 
     public double clientEnergyUsed;
 
@@ -98,7 +99,7 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
     @Override
     protected void presetVariables() {
         gasTank = new GasTank(10_000);
-        fluidTank = new FluidTank(10_000);
+        fluidTank = new VersionedFluidTank(10_000);
     }
 
     @Nonnull
@@ -136,11 +137,11 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return !gas.isEmptyType() && containsRecipe(recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
+        return !gas.isEmptyType() && containsRecipe(gas, recipe -> recipe.hasGasToFluid() && recipe.getGasInput().testType(gas));
     }
 
     public boolean isValidFluid(@Nonnull FluidStack fluidStack) {
-        return !fluidStack.isEmpty() && containsRecipe(recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
+        return !fluidStack.isEmpty() && containsRecipe(fluidStack, recipe -> recipe.hasFluidToGas() && recipe.getFluidInput().testType(fluidStack));
     }
 
     @Override
@@ -354,6 +355,25 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        if (mode) {
+            return MekanismRecipeType.getCacheVersion() + fluidTank.getVersion();
+        }
+        //Offset the gas to fluid direction so that toggling the mode is always seen as the inputs changing
+        return MekanismRecipeType.getCacheVersion() + gasTank.getVersion() + (1L << 40);
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Nullable
     @Override
     public RotaryRecipe getRecipe(int cacheIndex) {
@@ -362,14 +382,14 @@ public class TileEntityRotaryCondensentrator extends TileEntityMekanism implemen
             if (fluid.isEmpty()) {
                 return null;
             }
-            return findFirstRecipe(recipe -> recipe.test(fluid));
+            return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
         }
         //Gas to Fluid
         GasStack gas = gasInputHandler.getInput();
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(gas, recipe -> recipe.test(gas));
     }
 
     @Nullable
@@ -118,17 +118,16 @@ public class TileEntitySecurityDesk extends TileEntityMekanism implements IBound
     public void setFrequency(UUID owner) {
         FrequencyManager manager = Mekanism.securityFrequencies;
         manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.ownerUUID.equals(owner)) {
-                frequency = (SecurityFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                return;
-            }
+        Frequency existing = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+        if (existing != null) {
+            frequency = (SecurityFrequency) existing;
+            manager.activate(Coord4D.get(this), frequency);
+            return;
         }
 
         Frequency freq = new SecurityFrequency(owner).setPublic(true);
-        freq.activeCoords.add(Coord4D.get(this));
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = (SecurityFrequency) freq;
         MekanismUtils.saveChunk(this);
         markDirty();
@@ -157,6 +156,13 @@ public class TileEntitySecurityDesk extends TileEntityMekanism implements IBound
                     Mekanism.packetHandler.sendToAll(new PacketSecurityUpdate(SecurityPacket.UPDATE, ownerUUID, new SecurityData(frequency)));
                 }
             }
+            if (frequency != null) {
+                //The trusted players, override and mode get saved by the manager of the frequency
+                FrequencyManager manager = getManager(frequency);
+                if (manager != null) {
+                    manager.markDirty();
+                }
+            }
             MekanismUtils.saveChunk(this);
             return;
         }
@@ -225,17 +231,16 @@ public class TileEntitySecurityDesk extends TileEntityMekanism implements IBound
         return data;
     }
 
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        FrequencyManager.deactivate(this, frequency);
+    }
+
     @Override
     public void remove() {
         super.remove();
-        if (!isRemote()) {
-            if (frequency != null) {
-                FrequencyManager manager = getManager(frequency);
-                if (manager != null) {
-                    manager.deactivate(Coord4D.get(this));
-                }
-            }
-        }
+        FrequencyManager.deactivate(this, frequency);
     }
 
     @Override
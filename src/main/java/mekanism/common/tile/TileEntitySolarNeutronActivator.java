@@ -61,6 +61,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
     public int gasOutput = 256;
 
     private CachedRecipe<GasToGasRecipe> cachedRecipe;
+    private long failedLookupVersion = UNTRACKED;
 
     private boolean settingsChecked;
     private boolean needsRainCheck;
@@ -124,7 +125,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
     }
 
     private boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getInput().testType(gas));
     }
 
     @Nonnull
@@ -139,6 +140,21 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputTank.getVersion();
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Nullable
     @Override
     public GasToGasRecipe getRecipe(int cacheIndex) {
@@ -146,7 +162,7 @@ public class TileEntitySolarNeutronActivator extends TileEntityMekanism implemen
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(gas));
+        return findFirstRecipe(gas, recipe -> recipe.test(gas));
     }
 
     private boolean canFunction(BlockPos positionAbove) {
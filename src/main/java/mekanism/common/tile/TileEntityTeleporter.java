@@ -181,14 +181,14 @@ public class TileEntityTeleporter extends TileEntityMekanism implements ICompute
         for (Frequency freq : manager.getFrequencies()) {
             if (freq.name.equals(name)) {
                 frequency = freq;
-                frequency.activeCoords.add(Coord4D.get(this));
+                manager.activate(Coord4D.get(this), frequency);
                 MekanismUtils.saveChunk(this);
                 return;
             }
         }
         Frequency freq = new Frequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
-        freq.activeCoords.add(Coord4D.get(this));
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = freq;
         MekanismUtils.saveChunk(this);
     }
@@ -211,25 +211,13 @@ public class TileEntityTeleporter extends TileEntityMekanism implements ICompute
     @Override
     public void onChunkUnloaded() {
         super.onChunkUnloaded();
-        if (!isRemote() && frequency != null) {
-            FrequencyManager manager = getManager(frequency);
-            if (manager != null) {
-                manager.deactivate(Coord4D.get(this));
-            }
-        }
+        FrequencyManager.deactivate(this, frequency);
     }
 
     @Override
     public void remove() {
         super.remove();
-        if (!isRemote()) {
-            if (frequency != null) {
-                FrequencyManager manager = getManager(frequency);
-                if (manager != null) {
-                    manager.deactivate(Coord4D.get(this));
-                }
-            }
-        }
+        FrequencyManager.deactivate(this, frequency);
     }
 
     public void cleanTeleportCache() {
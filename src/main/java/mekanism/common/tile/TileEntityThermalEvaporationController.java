@@ -19,6 +19,7 @@ import mekanism.api.recipes.outputs.OutputHelper;
 import mekanism.common.Mekanism;
 import mekanism.common.base.IActiveState;
 import mekanism.common.base.ITankManager;
+import mekanism.common.base.VersionedFluidTank;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.tank.TankUpdateProtocol;
@@ -51,7 +52,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     public static final int MAX_SOLARS = 4;
     public static final int MAX_HEIGHT = 18;
 
-    public FluidTank inputTank;
+    public VersionedFluidTank inputTank;
     public FluidTank outputTank;
 
     public Set<Coord4D> tankParts = new HashSet<>();
@@ -88,6 +89,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     public float totalLoss = 0;
 
     private CachedRecipe<FluidToFluidRecipe> cachedRecipe;
+    private long failedLookupVersion = UNTRACKED;
 
     private final IOutputHandler<@NonNull FluidStack> outputHandler;
     private final IInputHandler<@NonNull FluidStack> inputHandler;
@@ -106,7 +108,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
 
     @Override
     protected void presetVariables() {
-        inputTank = new FluidTank(0);
+        inputTank = new VersionedFluidTank(0);
         outputTank = new FluidTank(MAX_OUTPUT);
     }
 
@@ -115,7 +117,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     protected IInventorySlotHolder getInitialInventory() {
         //TODO: Make the inventory be accessible via the valves instead
         InventorySlotHelper builder = InventorySlotHelper.forSide(this::getDirection);
-        builder.addSlot(inputInputSlot = FluidInventorySlot.fill(inputTank, fluid -> containsRecipe(recipe -> recipe.getInput().testType(fluid)), this, 28, 20));
+        builder.addSlot(inputInputSlot = FluidInventorySlot.fill(inputTank, fluid -> containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid)), this, 28, 20));
         builder.addSlot(outputInputSlot = OutputInventorySlot.at(this, 28, 51));
         builder.addSlot(inputOutputSlot = FluidInventorySlot.drain(outputTank, this, 132, 20));
         builder.addSlot(outputOutputSlot = OutputInventorySlot.at(this, 132, 51));
@@ -164,7 +166,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
     }
 
     public boolean hasRecipe(FluidStack fluid) {
-        return containsRecipe(recipe -> recipe.getInput().testType(fluid));
+        return containsRecipe(fluid, recipe -> recipe.getInput().testType(fluid));
     }
 
     protected void refresh() {
@@ -202,6 +204,21 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputTank.getVersion();
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Nullable
     @Override
     public FluidToFluidRecipe getRecipe(int cacheIndex) {
@@ -209,7 +226,7 @@ public class TileEntityThermalEvaporationController extends TileEntityThermalEva
         if (fluid.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(fluid));
+        return findFirstRecipe(fluid, recipe -> recipe.test(fluid));
     }
 
     @Nullable
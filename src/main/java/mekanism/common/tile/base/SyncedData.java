@@ -0,0 +1,342 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.gas.GasStack;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * Typed fields of a {@link TileEntityMekanism} that get synced to the players that have its GUI open. The server keeps what it last sent to each player, and only the
+ * fields that changed since then get written, straight into the outgoing packet.
+ *
+ * Fields are identified by the order they are added in, so the server and the client have to add the same fields in the same order.
+ */
+public class SyncedData {
+
+    private final List<SyncedField> fields = new ArrayList<>();
+    private final Map<PlayerEntity, Snapshot> snapshots = new HashMap<>();
+    private final IntArrayList changed = new IntArrayList();
+
+    public void addInt(IntSupplier getter, IntConsumer setter) {
+        fields.add(new IntField(getter, setter));
+    }
+
+    public void addLong(LongSupplier getter, LongConsumer setter) {
+        fields.add(new LongField(getter, setter));
+    }
+
+    public void addDouble(DoubleSupplier getter, DoubleConsumer setter) {
+        fields.add(new DoubleField(getter, setter));
+    }
+
+    public void addBoolean(BooleanSupplier getter, BooleanConsumer setter) {
+        fields.add(new BooleanField(getter, setter));
+    }
+
+    public <E extends Enum<E>> void addEnum(Class<E> enumClass, Supplier<E> getter, Consumer<E> setter) {
+        E[] values = enumClass.getEnumConstants();
+        fields.add(new IntField(() -> getter.get().ordinal(), ordinal -> setter.accept(values[ordinal])));
+    }
+
+    /**
+     * @param getter Gets the current value, may only return {@code null} if the writer and reader handle it.
+     * @param equals Checks if the current value is the same as the one that was last sent.
+     * @param copier Creates a copy of the value to compare against later, should return the value itself if it is immutable.
+     */
+    public <T> void addObject(Supplier<T> getter, Consumer<T> setter, BiPredicate<T, T> equals, UnaryOperator<T> copier, BiConsumer<PacketBuffer, T> writer,
+          Function<PacketBuffer, T> reader) {
+        fields.add(new ObjectField<>(getter, setter, equals, copier, writer, reader));
+    }
+
+    public void addItemStack(Supplier<ItemStack> getter, Consumer<ItemStack> setter) {
+        addObject(getter, setter, ItemStack::areItemStacksEqual, ItemStack::copy, PacketBuffer::writeItemStack, PacketBuffer::readItemStack);
+    }
+
+    public void addGasStack(Supplier<GasStack> getter, Consumer<GasStack> setter) {
+        addObject(getter, setter, GasStack::isStackIdentical, GasStack::copy, (buf, stack) -> stack.writeToPacket(buf), GasStack::readFromPacket);
+    }
+
+    /**
+     * @return {@code true} if the given player already received the state of all the fields.
+     */
+    public boolean hasSnapshot(PlayerEntity player) {
+        return snapshots.containsKey(player);
+    }
+
+    /**
+     * Remembers the current value of all fields as sent to the given player, call after sending the player the full state of the tile.
+     */
+    public void updateSnapshot(PlayerEntity player) {
+        Snapshot snapshot = new Snapshot(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            fields.get(i).save(snapshot, i);
+        }
+        snapshots.put(player, snapshot);
+    }
+
+    public void reset(PlayerEntity player) {
+        snapshots.remove(player);
+    }
+
+    /**
+     * Finds the fields that changed since the given player was last sent them and marks them as sent.
+     *
+     * @return The indices of the fields that changed, or {@code null} if none did.
+     */
+    @Nullable
+    public int[] getChangedFields(PlayerEntity player) {
+        Snapshot snapshot = snapshots.get(player);
+        if (snapshot == null) {
+            return null;
+        }
+        changed.clear();
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).update(snapshot, i)) {
+                changed.add(i);
+            }
+        }
+        return changed.isEmpty() ? null : changed.toIntArray();
+    }
+
+    public void write(PacketBuffer buf, @Nonnull int[] indices) {
+        buf.writeVarInt(indices.length);
+        for (int index : indices) {
+            buf.writeVarInt(index);
+            fields.get(index).write(buf);
+        }
+    }
+
+    public void read(PacketBuffer buf) {
+        int count = buf.readVarInt();
+        for (int i = 0; i < count; i++) {
+            int index = buf.readVarInt();
+            if (index < 0 || index >= fields.size()) {
+                throw new IndexOutOfBoundsException("Received synced field " + index + " but only " + fields.size() + " fields exist");
+            }
+            fields.get(index).read(buf);
+        }
+    }
+
+    private static class Snapshot {
+
+        private final long[] values;
+        private final Object[] objects;
+
+        private Snapshot(int size) {
+            values = new long[size];
+            objects = new Object[size];
+        }
+    }
+
+    private abstract static class SyncedField {
+
+        protected abstract void save(Snapshot snapshot, int index);
+
+        /**
+         * Stores the current value in the snapshot if it differs from the one that is in it.
+         *
+         * @return {@code true} if the value changed.
+         */
+        protected abstract boolean update(Snapshot snapshot, int index);
+
+        protected abstract void write(PacketBuffer buf);
+
+        protected abstract void read(PacketBuffer buf);
+    }
+
+    /**
+     * A field whose value fits in a long, so that it can be compared without being boxed.
+     */
+    private abstract static class PrimitiveField extends SyncedField {
+
+        protected abstract long getBits();
+
+        @Override
+        protected void save(Snapshot snapshot, int index) {
+            snapshot.values[index] = getBits();
+        }
+
+        @Override
+        protected boolean update(Snapshot snapshot, int index) {
+            long bits = getBits();
+            if (snapshot.values[index] == bits) {
+                return false;
+            }
+            snapshot.values[index] = bits;
+            return true;
+        }
+    }
+
+    private static class IntField extends PrimitiveField {
+
+        private final IntSupplier getter;
+        private final IntConsumer setter;
+
+        private IntField(IntSupplier getter, IntConsumer setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        protected long getBits() {
+            return getter.getAsInt();
+        }
+
+        @Override
+        protected void write(PacketBuffer buf) {
+            buf.writeVarInt(getter.getAsInt());
+        }
+
+        @Override
+        protected void read(PacketBuffer buf) {
+            setter.accept(buf.readVarInt());
+        }
+    }
+
+    private static class LongField extends PrimitiveField {
+
+        private final LongSupplier getter;
+        private final LongConsumer setter;
+
+        private LongField(LongSupplier getter, LongConsumer setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        protected long getBits() {
+            return getter.getAsLong();
+        }
+
+        @Override
+        protected void write(PacketBuffer buf) {
+            buf.writeVarLong(getter.getAsLong());
+        }
+
+        @Override
+        protected void read(PacketBuffer buf) {
+            setter.accept(buf.readVarLong());
+        }
+    }
+
+    private static class DoubleField extends PrimitiveField {
+
+        private final DoubleSupplier getter;
+        private final DoubleConsumer setter;
+
+        private DoubleField(DoubleSupplier getter, DoubleConsumer setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        protected long getBits() {
+            return Double.doubleToLongBits(getter.getAsDouble());
+        }
+
+        @Override
+        protected void write(PacketBuffer buf) {
+            buf.writeDouble(getter.getAsDouble());
+        }
+
+        @Override
+        protected void read(PacketBuffer buf) {
+            setter.accept(buf.readDouble());
+        }
+    }
+
+    private static class BooleanField extends PrimitiveField {
+
+        private final BooleanSupplier getter;
+        private final BooleanConsumer setter;
+
+        private BooleanField(BooleanSupplier getter, BooleanConsumer setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        protected long getBits() {
+            return getter.getAsBoolean() ? 1 : 0;
+        }
+
+        @Override
+        protected void write(PacketBuffer buf) {
+            buf.writeBoolean(getter.getAsBoolean());
+        }
+
+        @Override
+        protected void read(PacketBuffer buf) {
+            setter.accept(buf.readBoolean());
+        }
+    }
+
+    private static class ObjectField<T> extends SyncedField {
+
+        private final Supplier<T> getter;
+        private final Consumer<T> setter;
+        private final BiPredicate<T, T> equals;
+        private final UnaryOperator<T> copier;
+        private final BiConsumer<PacketBuffer, T> writer;
+        private final Function<PacketBuffer, T> reader;
+
+        private ObjectField(Supplier<T> getter, Consumer<T> setter, BiPredicate<T, T> equals, UnaryOperator<T> copier, BiConsumer<PacketBuffer, T> writer,
+              Function<PacketBuffer, T> reader) {
+            this.getter = getter;
+            this.setter = setter;
+            this.equals = equals;
+            this.copier = copier;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        @Override
+        protected void save(Snapshot snapshot, int index) {
+            T value = getter.get();
+            snapshot.objects[index] = value == null ? null : copier.apply(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected boolean update(Snapshot snapshot, int index) {
+            T value = getter.get();
+            T last = (T) snapshot.objects[index];
+            if (value == null || last == null ? value == last : equals.test(value, last)) {
+                return false;
+            }
+            snapshot.objects[index] = value == null ? null : copier.apply(value);
+            return true;
+        }
+
+        @Override
+        protected void write(PacketBuffer buf) {
+            writer.accept(buf, getter.get());
+        }
+
+        @Override
+        protected void read(PacketBuffer buf) {
+            setter.accept(reader.apply(buf));
+        }
+    }
+}
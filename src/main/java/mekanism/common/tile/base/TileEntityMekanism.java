@@ -50,6 +50,7 @@ import mekanism.common.inventory.slot.UpgradeInventorySlot;
 import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.network.PacketDataRequest;
 import mekanism.common.network.PacketTileEntity;
+import mekanism.common.network.PacketTileEntityDelta;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentSecurity;
 import mekanism.common.tile.component.TileComponentUpgrade;
@@ -116,6 +117,12 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
 
     public boolean doAutoSync = true;
 
+    /**
+     * The typed fields the auto sync sends when they change, {@code null} until first used or if this tile does not declare any.
+     */
+    @Nullable
+    private SyncedData syncedData;
+
     private List<ITileComponent> components = new ArrayList<>();
 
     protected IBlockProvider blockProvider;
@@ -431,9 +438,25 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         onUpdate();
         if (!isRemote()) {
             if (doAutoSync && playersUsing.size() > 0) {
-                PacketTileEntity updateMessage = new PacketTileEntity(this);
-                for (PlayerEntity player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(updateMessage, (ServerPlayerEntity) player);
+                SyncedData syncedData = getSyncedData();
+                if (syncedData == null) {
+                    PacketTileEntity updateMessage = new PacketTileEntity(this);
+                    for (PlayerEntity player : playersUsing) {
+                        Mekanism.packetHandler.sendTo(updateMessage, (ServerPlayerEntity) player);
+                    }
+                } else {
+                    for (PlayerEntity player : playersUsing) {
+                        if (!syncedData.hasSnapshot(player)) {
+                            //Send everything once, after that the player only needs the fields that changed
+                            Mekanism.packetHandler.sendTo(new PacketTileEntity(this), (ServerPlayerEntity) player);
+                            syncedData.updateSnapshot(player);
+                        } else {
+                            int[] changedFields = syncedData.getChangedFields(player);
+                            if (changedFields != null) {
+                                Mekanism.packetHandler.sendTo(new PacketTileEntityDelta(Coord4D.get(this), syncedData, changedFields), (ServerPlayerEntity) player);
+                            }
+                        }
+                    }
                 }
             }
         }
@@ -455,6 +478,56 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
 
     public void close(PlayerEntity player) {
         playersUsing.remove(player);
+        resetSyncedData(player);
+    }
+
+    /**
+     * Makes the next auto sync to the given player contain all the networked data, for example because the client lost track of what it last received.
+     */
+    public void resetSyncedData(PlayerEntity player) {
+        if (syncedData != null) {
+            syncedData.reset(player);
+        }
+    }
+
+    /**
+     * @return The typed fields of this tile, or {@code null} if it does not declare them and the auto sync has to send all the networked data every tick.
+     */
+    @Nullable
+    public SyncedData getSyncedData() {
+        if (syncedData == null && hasSyncedFields()) {
+            syncedData = new SyncedData();
+            addSyncedFields(syncedData);
+        }
+        return syncedData;
+    }
+
+    /**
+     * Whether {@link #addSyncedFields(SyncedData)} covers everything in {@link #getNetworkedData(TileNetworkList)} that can change while the GUI is open. Only
+     * return {@code true} once every class between this one and the tile declares its fields.
+     */
+    protected boolean hasSyncedFields() {
+        return false;
+    }
+
+    /**
+     * Adds the fields the auto sync sends when they change. Overrides must call super and add their fields in the same order on both sides.
+     */
+    protected void addSyncedFields(SyncedData data) {
+        for (ITileComponent component : components) {
+            component.addSyncedFields(data);
+        }
+        if (supportsRedstone()) {
+            data.addBoolean(() -> redstone, value -> redstone = value);
+            data.addEnum(RedstoneControl.class, () -> controlType, value -> controlType = value);
+        }
+        if (isElectric()) {
+            data.addDouble(this::getEnergy, this::setEnergy);
+            if (supportsUpgrades()) {
+                data.addDouble(this::getEnergyPerTick, this::setEnergyPerTick);
+                data.addDouble(this::getMaxEnergy, this::setMaxEnergy);
+            }
+        }
     }
 
     @Override
@@ -508,6 +581,14 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         }
     }
 
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        for (ITileComponent component : components) {
+            component.onChunkUnload();
+        }
+    }
+
     @Override
     public void validate() {
         super.validate();
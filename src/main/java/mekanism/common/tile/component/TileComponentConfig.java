@@ -12,6 +12,7 @@ import mekanism.api.TileNetworkList;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.config.ConfigInfo;
 import mekanism.common.tile.component.config.DataType;
@@ -189,6 +190,17 @@ public class TileComponentConfig implements ITileComponent {
         }
     }
 
+    @Override
+    public void addSyncedFields(SyncedData data) {
+        //Look the info up each time as readFrom can replace it
+        for (TransmissionType type : configInfo.keySet()) {
+            data.addBoolean(() -> getConfig(type).isEjecting(), ejecting -> getConfig(type).setEjecting(ejecting));
+            for (RelativeSide side : EnumUtils.SIDES) {
+                data.addEnum(DataType.class, () -> getConfig(type).getDataType(side), dataType -> getConfig(type).setDataType(side, dataType));
+            }
+        }
+    }
+
     @Override
     public void invalidate() {
     }
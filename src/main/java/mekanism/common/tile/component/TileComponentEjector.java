@@ -19,6 +19,7 @@ import mekanism.common.base.ITileComponent;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.config.ConfigInfo;
 import mekanism.common.tile.component.config.DataType;
@@ -52,6 +53,7 @@ public class TileComponentEjector implements ITileComponent {
     private EnumColor[] inputColors = new EnumColor[]{null, null, null, null, null, null};
     private int tickDelay = 0;
     private Map<TransmissionType, ConfigInfo> configInfo = new EnumMap<>(TransmissionType.class);
+    private final TransitRequest ejectMap = new TransitRequest();
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this.tile = tile;
@@ -130,49 +132,43 @@ public class TileComponentEjector implements ITileComponent {
             //We need it to be inventory slot info
             return;
         }
-        TransitRequest ejectMap = null;
+        buildEjectMap((InventorySlotInfo) slotInfo);
         for (Direction side : outputs) {
-            if (ejectMap == null) {
-                ejectMap = getEjectItemMap((InventorySlotInfo) slotInfo);
-                if (ejectMap.isEmpty()) {
-                    break;
-                }
+            if (ejectMap.isEmpty()) {
+                break;
             }
             TileEntity tile = MekanismUtils.getTileEntity(this.tile.getWorld(), this.tile.getPos().offset(side));
             if (tile == null) {
                 //If the spot is not loaded just skip trying to eject to it
                 continue;
             }
-            TransitRequest finalEjectMap = ejectMap;
             TransitResponse response;
             Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, side.getOpposite()));
             if (capability.isPresent()) {
-                response = TransporterUtils.insert(this.tile, capability.get(), finalEjectMap, outputColor, true, 0);
+                response = TransporterUtils.insert(this.tile, capability.get(), ejectMap, outputColor, true, 0);
             } else {
-                response = InventoryUtils.putStackInInventory(tile, finalEjectMap, side, false);
+                response = InventoryUtils.putStackInInventory(tile, ejectMap, side, false);
             }
             if (!response.isEmpty()) {
                 response.getInvStack(this.tile, side).use();
-                //Set map to null so next loop recalculates the eject map so that all sides get a chance to be ejected to
-                // assuming that there is still any left
-                //TODO: Eventually make some way to just directly update the TransitRequest with remaining parts
-                ejectMap = null;
+                //Remove what we sent from the map so that all sides get a chance to be ejected to, assuming that there is still any left
+                ejectMap.shrink(response);
             }
         }
+        //Don't hold on to the stacks until the next time we eject
+        ejectMap.clear();
         tickDelay = 10;
     }
 
-    private TransitRequest getEjectItemMap(InventorySlotInfo slotInfo) {
-        TransitRequest request = new TransitRequest();
+    private void buildEjectMap(InventorySlotInfo slotInfo) {
+        ejectMap.clear();
         List<IInventorySlot> slots = slotInfo.getSlots();
         for (int index = 0; index < slots.size(); index++) {
             IInventorySlot slot = slots.get(index);
             if (!slot.isEmpty()) {
-                //TODO: verify the stack can't be modified or give it a copy
-                request.addItem(slot.getStack(), index);
+                ejectMap.addItem(slot.getStack(), index);
             }
         }
-        return request;
     }
 
     public boolean hasStrictInput() {
@@ -249,6 +245,16 @@ public class TileComponentEjector implements ITileComponent {
         }
     }
 
+    @Override
+    public void addSyncedFields(SyncedData data) {
+        data.addBoolean(() -> strictInput, value -> strictInput = value);
+        data.addInt(() -> getColorIndex(outputColor), index -> outputColor = readColor(index));
+        for (int i = 0; i < 6; i++) {
+            int side = i;
+            data.addInt(() -> getColorIndex(inputColors[side]), index -> inputColors[side] = readColor(index));
+        }
+    }
+
     private EnumColor readColor(int inputColor) {
         if (inputColor == -1) {
             return null;
@@ -1,6 +1,7 @@
 package mekanism.common.tile.component;
 
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.common.Mekanism;
@@ -11,6 +12,7 @@ import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.security.ISecurityTile.SecurityMode;
 import mekanism.common.security.SecurityFrequency;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.nbt.CompoundNBT;
@@ -48,17 +50,16 @@ public class TileComponentSecurity implements ITileComponent {
         FrequencyManager manager = Mekanism.securityFrequencies;
         manager.deactivate(Coord4D.get(tile));
 
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.ownerUUID.equals(owner)) {
-                frequency = (SecurityFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(tile));
-                return;
-            }
+        Frequency existing = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+        if (existing != null) {
+            frequency = (SecurityFrequency) existing;
+            manager.activate(Coord4D.get(tile), frequency);
+            return;
         }
 
         Frequency freq = new SecurityFrequency(owner).setPublic(true);
-        freq.activeCoords.add(Coord4D.get(tile));
         manager.addFrequency(freq);
+        manager.activate(Coord4D.get(tile), freq);
         frequency = (SecurityFrequency) freq;
 
         MekanismUtils.saveChunk(tile);
@@ -182,14 +183,33 @@ public class TileComponentSecurity implements ITileComponent {
     }
 
     @Override
-    public void invalidate() {
-        if (!tile.isRemote()) {
-            if (frequency != null) {
-                FrequencyManager manager = getManager(frequency);
-                if (manager != null) {
-                    manager.deactivate(Coord4D.get(tile));
-                }
+    public void addSyncedFields(SyncedData data) {
+        data.addEnum(SecurityMode.class, () -> securityMode, mode -> securityMode = mode);
+        //The client gets the settings of the frequency from the security map instead, so only the owner is tracked
+        data.addObject(() -> ownerUUID, owner -> ownerUUID = owner, UUID::equals, UnaryOperator.identity(), (buf, owner) -> {
+            buf.writeBoolean(owner != null);
+            if (owner != null) {
+                buf.writeUniqueId(owner);
+                buf.writeString(MekanismUtils.getLastKnownUsername(owner));
             }
-        }
+        }, buf -> {
+            if (buf.readBoolean()) {
+                UUID owner = buf.readUniqueId();
+                clientOwner = PacketHandler.readString(buf);
+                return owner;
+            }
+            clientOwner = null;
+            return null;
+        });
+    }
+
+    @Override
+    public void invalidate() {
+        FrequencyManager.deactivate(tile, frequency);
+    }
+
+    @Override
+    public void onChunkUnload() {
+        invalidate();
     }
 }
\ No newline at end of file
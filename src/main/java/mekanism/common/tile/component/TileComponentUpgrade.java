@@ -13,6 +13,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.IUpgradeItem;
 import mekanism.common.inventory.slot.UpgradeInventorySlot;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
@@ -156,6 +157,21 @@ public class TileComponentUpgrade implements ITileComponent {
         data.add(upgradeTicks);
     }
 
+    @Override
+    public void addSyncedFields(SyncedData data) {
+        for (Upgrade upgrade : getSupportedTypes()) {
+            data.addInt(() -> getUpgrades(upgrade), amount -> {
+                if (amount == 0) {
+                    upgrades.remove(upgrade);
+                } else {
+                    upgrades.put(upgrade, amount);
+                }
+                tile.recalculateUpgrades(upgrade);
+            });
+        }
+        data.addInt(() -> upgradeTicks, value -> upgradeTicks = value);
+    }
+
     @Override
     public void read(CompoundNBT nbtTags) {
         if (nbtTags.contains("componentUpgrade", NBT.TAG_COMPOUND)) {
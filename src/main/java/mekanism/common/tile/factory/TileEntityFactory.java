@@ -1,6 +1,7 @@
 package mekanism.common.tile.factory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -29,6 +30,7 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.inventory.slot.holder.InventorySlotHelper;
+import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.tier.FactoryTier;
 import mekanism.common.tile.TileEntityMetallurgicInfuser;
 import mekanism.common.tile.base.TileEntityMekanism;
@@ -62,6 +64,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
 
     private static final String[] methods = new String[]{"getEnergy", "getProgress", "facing", "canOperate", "getMaxEnergy", "getEnergyNeeded"};
     private final CachedRecipe<RECIPE>[] cachedRecipes;
+    private final long[] failedLookupVersions;
     private boolean[] activeStates;
     protected ProcessInfo[] processInfoSlots;
     /**
@@ -176,6 +179,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         //TODO: Theoretically this should work as it initializes them all as null, but is there a better/proper way to do this
         cachedRecipes = new CachedRecipe[tier.processes];
         activeStates = new boolean[cachedRecipes.length];
+        failedLookupVersions = new long[cachedRecipes.length];
+        Arrays.fill(failedLookupVersions, UNTRACKED);
         setRecipeType(recipeType);
     }
 
@@ -371,6 +376,21 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return cachedRecipes[cacheIndex];
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + processInfoSlots[cacheIndex].getInputSlot().getVersion();
+    }
+
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersions[cacheIndex];
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersions[cacheIndex] = version;
+    }
+
     protected void updateCachedRecipe(@Nonnull CachedRecipe<RECIPE> newCache, int cacheIndex) {
         //TODO: Sanitize that cacheIndex is in bounds?
         cachedRecipes[cacheIndex] = newCache;
@@ -86,7 +86,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack));
     }
 
     @Override
@@ -110,7 +110,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         GasStack gasStack = gasTank.getStack();
         Gas gas = gasStack.getType();
         ItemStack output = outputSlot.getStack();
-        ItemStackGasToItemStackRecipe foundRecipe = findFirstRecipe(recipe -> {
+        ItemStackGasToItemStackRecipe foundRecipe = findFirstRecipe(fallbackInput, recipe -> {
             if (recipe.getItemInput().testType(fallbackInput)) {
                 //If we don't have a gas stored ignore checking for a match
                 if (gasStack.isEmpty() || recipe.getGasInput().testType(gas)) {
@@ -138,7 +138,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getGasInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas));
     }
 
     @Override
@@ -161,6 +161,11 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         }
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return super.getInputVersion(cacheIndex) + gasTank.getVersion();
+    }
+
     @Nullable
     @Override
     public ItemStackGasToItemStackRecipe getRecipe(int cacheIndex) {
@@ -172,7 +177,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Override
@@ -57,7 +57,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack));
     }
 
     @Override
@@ -81,7 +81,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         int stored = infusionTank.getStored();
         InfuseType type = infusionTank.getType();
         ItemStack output = outputSlot.getStack();
-        MetallurgicInfuserRecipe foundRecipe = findFirstRecipe(recipe -> {
+        MetallurgicInfuserRecipe foundRecipe = findFirstRecipe(fallbackInput, recipe -> {
             //Check the infusion type before the ItemStack type as it a quicker easier compare check
             if (stored == 0 || recipe.getInfusionInput().testType(type)) {
                 return recipe.getItemInput().testType(fallbackInput) && ItemHandlerHelper.canItemStacksStack(recipe.getOutput(infusionTank.getStack(), fallbackInput), output);
@@ -121,6 +121,11 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         return MekanismRecipeType.METALLURGIC_INFUSING;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return super.getInputVersion(cacheIndex) + infusionTank.getVersion();
+    }
+
     @Nullable
     @Override
     public MetallurgicInfuserRecipe getRecipe(int cacheIndex) {
@@ -132,7 +137,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Override
@@ -59,7 +59,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getInput().testType(stack));
     }
 
     //TODO: Improve the logic for this so that it more accurately handles the secondary output slot type stacking
@@ -79,7 +79,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         // and if something does have extra checking to check the input as long as it checks for invalid ones this should still work
         ItemStack output = outputSlot.getStack();
         ItemStack extra = secondaryOutputSlot == null ? ItemStack.EMPTY : secondaryOutputSlot.getStack();
-        SawmillRecipe foundRecipe = findFirstRecipe(recipe -> {
+        SawmillRecipe foundRecipe = findFirstRecipe(fallbackInput, recipe -> {
             if (recipe.getInput().testType(fallbackInput)) {
                 ChanceOutput chanceOutput = recipe.getOutput(fallbackInput);
                 if (ItemHandlerHelper.canItemStacksStack(chanceOutput.getMainOutput(), output)) {
@@ -124,7 +124,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Override
@@ -3,11 +3,15 @@ package mekanism.common.tile.interfaces;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 
 public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends ICachedRecipeHolder<RECIPE> {
 
@@ -33,4 +37,31 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
     default RECIPE findFirstRecipe(@Nonnull Predicate<RECIPE> matchCriteria) {
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
+
+    default boolean containsRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull Gas input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull GasStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
 }
\ No newline at end of file
@@ -31,6 +31,8 @@ import mekanism.common.inventory.slot.InputInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.slot.holder.IInventorySlotHolder;
 import mekanism.common.inventory.slot.holder.InventorySlotHelper;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.tile.component.config.ConfigInfo;
@@ -128,7 +130,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityBasicM
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 56, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getItemInput().testType(item)), this, 56, 17));
         builder.addSlot(secondarySlot = GasInventorySlot.fillOrConvert(gasTank, this::isValidGas, this::getWorld, this, 56, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.discharge(this, 31, 35));
@@ -136,7 +138,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityBasicM
     }
 
     public boolean isValidGas(@Nonnull Gas gas) {
-        return containsRecipe(recipe -> recipe.getGasInput().testType(gas));
+        return containsRecipe(gas, recipe -> recipe.getGasInput().testType(gas));
     }
 
     @Override
@@ -164,6 +166,11 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityBasicM
         return cachedRecipe;
     }
 
+    @Override
+    public long getInputVersion(int cacheIndex) {
+        return MekanismRecipeType.getCacheVersion() + inputSlot.getVersion() + gasTank.getVersion();
+    }
+
     @Nullable
     @Override
     public ItemStackGasToItemStackRecipe getRecipe(int cacheIndex) {
@@ -175,7 +182,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityBasicM
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -204,6 +211,17 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityBasicM
         return data;
     }
 
+    @Override
+    protected boolean hasSyncedFields() {
+        return true;
+    }
+
+    @Override
+    protected void addSyncedFields(SyncedData data) {
+        super.addSyncedFields(data);
+        data.addGasStack(gasTank::getStack, gasTank::setStack);
+    }
+
     @Override
     public void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
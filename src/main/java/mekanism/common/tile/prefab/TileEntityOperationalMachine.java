@@ -6,6 +6,7 @@ import mekanism.api.Upgrade;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe;
+import mekanism.common.tile.base.SyncedData;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.interfaces.ITileCachedRecipeHolder;
 import mekanism.common.util.MekanismUtils;
@@ -21,6 +22,7 @@ public abstract class TileEntityOperationalMachine<RECIPE extends MekanismRecipe
     public int ticksRequired;
     //TODO: Protected?
     public CachedRecipe<RECIPE> cachedRecipe = null;
+    private long failedLookupVersion = UNTRACKED;
 
     protected TileEntityOperationalMachine(IBlockProvider blockProvider, int baseTicksRequired) {
         super(blockProvider);
@@ -41,6 +43,16 @@ public abstract class TileEntityOperationalMachine<RECIPE extends MekanismRecipe
         return cachedRecipe.getOperatingTicks();
     }
 
+    @Override
+    public long getFailedLookupVersion(int cacheIndex) {
+        return failedLookupVersion;
+    }
+
+    @Override
+    public void setFailedLookupVersion(int cacheIndex, long version) {
+        failedLookupVersion = version;
+    }
+
     @Override
     public void handlePacketData(PacketBuffer dataStream) {
         super.handlePacketData(dataStream);
@@ -58,6 +70,13 @@ public abstract class TileEntityOperationalMachine<RECIPE extends MekanismRecipe
         return data;
     }
 
+    @Override
+    protected void addSyncedFields(SyncedData data) {
+        super.addSyncedFields(data);
+        data.addInt(this::getOperatingTicks, value -> operatingTicks = value);
+        data.addInt(() -> ticksRequired, value -> ticksRequired = value);
+    }
+
     @Override
     public void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
@@ -23,7 +23,8 @@ import mekanism.common.block.states.BlockStateHelper;
 import mekanism.common.block.states.TransmitterType;
 import mekanism.common.block.transmitter.BlockLogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
-import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.Finder;
+import mekanism.common.content.transporter.Finder.FirstFinder;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterStack;
@@ -58,6 +59,8 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
 
     private int delay = 0;
     private int delayCount = 0;
+    private final TransitRequest pullRequest = new TransitRequest();
+    private final Finder pullFinder = new FirstFinder();
 
     public TileEntityLogisticalTransporter(IBlockProvider blockProvider) {
         super(((IHasTileEntity<TileEntityLogisticalTransporter>) blockProvider.getBlock()).getTileType());
@@ -83,9 +86,18 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
 
     @Override
     public void onWorldSeparate() {
-        super.onWorldSeparate();
         if (!isRemote()) {
-            PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+            onPathChanged();
+        }
+        super.onWorldSeparate();
+    }
+
+    /**
+     * Evicts the cached paths that go through this transporter. Transporters being added are handled by the network when it commits them.
+     */
+    private void onPathChanged() {
+        if (getTransmitter().hasTransmitterNetwork()) {
+            getTransmitter().getTransmitterNetwork().getPathCache().onChanged(new Coord4D(getPos(), getWorld()));
         }
     }
 
@@ -137,7 +149,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         for (Direction side : getConnections(ConnectionType.PULL)) {
             final TileEntity tile = MekanismUtils.getTileEntity(getWorld(), getPos().offset(side));
             if (tile != null) {
-                TransitRequest request = TransitRequest.buildInventoryMap(tile, side, tier.getPullAmount());
+                TransitRequest request = pullRequest.readInventory(tile, side, tier.getPullAmount(), pullFinder);
 
                 // There's a stack available to insert into the network...
                 if (!request.isEmpty()) {
@@ -156,12 +168,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
                 }
             }
         }
-    }
-
-    @Override
-    public void onWorldJoin() {
-        super.onWorldJoin();
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        pullRequest.clear();
     }
 
     @Override
@@ -285,7 +292,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     @Override
     protected ActionResultType onConfigure(PlayerEntity player, int part, Direction side) {
         TransporterUtils.incrementColor(getTransmitter());
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        onPathChanged();
         Mekanism.packetHandler.sendUpdatePacket(this);
         EnumColor color = getTransmitter().getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM,
@@ -57,7 +57,6 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
     @Override
     public void tick() {
         if (!isRemote()) {
-            updateShare();
             List<Direction> connections = getConnections(ConnectionType.PULL);
             if (!connections.isEmpty()) {
                 IFluidHandler[] connectedAcceptors = PipeUtils.getConnectedAcceptors(getPos(), getWorld());
@@ -90,12 +89,7 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
     @Override
     public void updateShare() {
         if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetworkSize() > 0) {
-            FluidStack last = getSaveShare();
-            if ((!last.isEmpty() && !(!lastWrite.isEmpty() && lastWrite.getAmount() == last.getAmount() && lastWrite.getFluid() == last.getFluid())) ||
-                (last.isEmpty() && !lastWrite.isEmpty())) {
-                lastWrite = last;
-                markDirty();
-            }
+            lastWrite = getSaveShare();
         }
     }
 
@@ -113,21 +107,6 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
         return FluidStack.EMPTY;
     }
 
-    @Override
-    public void onChunkUnloaded() {
-        if (!isRemote() && getTransmitter().hasTransmitterNetwork() && !lastWrite.isEmpty()) {
-            FluidStack buffer = getTransmitter().getTransmitterNetwork().buffer;
-            if (!buffer.isEmpty()) {
-                buffer.setAmount(buffer.getAmount() - lastWrite.getAmount());
-                if (buffer.isEmpty()) {
-                    //TODO: Evaluate
-                    getTransmitter().getTransmitterNetwork().buffer = FluidStack.EMPTY;
-                }
-            }
-        }
-        super.onChunkUnloaded();
-    }
-
     @Override
     public void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
@@ -143,6 +122,9 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
+        if (!isRemote()) {
+            updateShare();
+        }
         if (lastWrite.getAmount() > 0) {
             nbtTags.put("cacheFluid", lastWrite.writeToNBT(new CompoundNBT()));
         } else {
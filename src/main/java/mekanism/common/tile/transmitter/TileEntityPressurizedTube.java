@@ -22,6 +22,7 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tier.TubeTier;
 import mekanism.common.transmitters.grid.GasNetwork;
+import mekanism.common.transmitters.grid.MultiGasBuffer;
 import mekanism.common.upgrade.transmitter.PressurizedTubeUpgradeData;
 import mekanism.common.upgrade.transmitter.TransmitterUpgradeData;
 import mekanism.common.util.CapabilityUtils;
@@ -29,9 +30,11 @@ import mekanism.common.util.GasUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 
 public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler, GasNetwork, GasStack> implements IGasHandler {
@@ -42,8 +45,14 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
 
     public GasTank buffer;
 
+    /**
+     * Gases other than the one in {@link #buffer} that we stored when we were last saved, see {@link GasNetwork#otherGases}.
+     */
+    public final MultiGasBuffer otherGases = new MultiGasBuffer();
+
     @Nonnull
     private GasStack lastWrite = GasStack.EMPTY;
+    private final MultiGasBuffer lastWriteOther = new MultiGasBuffer();
 
     //Read only handler for support with TOP and getting network data instead of this tube's data
     private IGasHandler nullHandler = new IGasHandler() {
@@ -84,7 +93,6 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
     @Override
     public void tick() {
         if (!isRemote()) {
-            updateShare();
             List<Direction> connections = getConnections(ConnectionType.PULL);
             if (!connections.isEmpty()) {
                 IGasHandler[] connectedAcceptors = GasUtils.getConnectedAcceptors(getPos(), getWorld());
@@ -117,11 +125,15 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
     @Override
     public void updateShare() {
         if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetworkSize() > 0) {
-            GasStack last = getSaveShare();
-            //TODO: Look to see if this can be cleaned up further
-            if ((!last.isEmpty() && (lastWrite.isEmpty() || !lastWrite.isStackIdentical(last))) || (last.isEmpty() && !lastWrite.isEmpty())) {
-                lastWrite = last;
-                markDirty();
+            lastWrite = getSaveShare();
+            lastWriteOther.clear();
+            GasNetwork transmitterNetwork = getTransmitter().getTransmitterNetwork();
+            MultiGasBuffer networkGases = transmitterNetwork.otherGases;
+            int size = transmitterNetwork.transmittersSize();
+            boolean first = transmitterNetwork.firstTransmitter().equals(getTransmitter());
+            for (int i = 0; i < networkGases.size(); i++) {
+                int amount = networkGases.getAmount(i);
+                lastWriteOther.add(networkGases.getType(i), first ? amount / size + amount % size : amount / size);
             }
         }
     }
@@ -142,20 +154,6 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
         return GasStack.EMPTY;
     }
 
-    @Override
-    public void onChunkUnloaded() {
-        if (!isRemote() && getTransmitter().hasTransmitterNetwork()) {
-            GasNetwork transmitterNetwork = getTransmitter().getTransmitterNetwork();
-            if (!transmitterNetwork.buffer.isEmpty() && !lastWrite.isEmpty()) {
-                transmitterNetwork.buffer.shrink(lastWrite.getAmount());
-                if (transmitterNetwork.buffer.getAmount() <= 0) {
-                    transmitterNetwork.buffer = GasStack.EMPTY;
-                }
-            }
-        }
-        super.onChunkUnloaded();
-    }
-
     @Override
     public void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
@@ -164,17 +162,38 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
         } else {
             buffer.setEmpty();
         }
+        otherGases.clear();
+        ListNBT otherGasList = nbtTags.getList("cacheOtherGases", NBT.TAG_COMPOUND);
+        for (int i = 0; i < otherGasList.size(); i++) {
+            GasStack stack = GasStack.readFromNBT(otherGasList.getCompound(i));
+            if (!stack.isEmpty()) {
+                otherGases.add(stack.getType(), stack.getAmount());
+            }
+        }
     }
 
     @Nonnull
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
+        if (!isRemote()) {
+            //Work out our share of the network's gas now that we are being saved
+            updateShare();
+        }
         if (!lastWrite.isEmpty()) {
             nbtTags.put("cacheGas", lastWrite.write(new CompoundNBT()));
         } else {
             nbtTags.remove("cacheGas");
         }
+        if (lastWriteOther.isEmpty()) {
+            nbtTags.remove("cacheOtherGases");
+        } else {
+            ListNBT otherGasList = new ListNBT();
+            for (int i = 0; i < lastWriteOther.size(); i++) {
+                otherGasList.add(new GasStack(lastWriteOther.getType(i), lastWriteOther.getAmount(i)).write(new CompoundNBT()));
+            }
+            nbtTags.put("cacheOtherGases", otherGasList);
+        }
         return nbtTags;
     }
 
@@ -193,19 +212,6 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
         return GasUtils.isValidAcceptorOnSide(tile, side);
     }
 
-    @Override
-    public boolean isValidTransmitter(TileEntity tile) {
-        if (!super.isValidTransmitter(tile)) {
-            return false;
-        }
-        if (!(tile instanceof TileEntityPressurizedTube)) {
-            return true;
-        }
-        GasStack buffer = getBufferWithFallback();
-        GasStack otherBuffer = ((TileEntityPressurizedTube) tile).getBufferWithFallback();
-        return buffer.isEmpty() || otherBuffer.isEmpty() || buffer.isTypeEqual(otherBuffer);
-    }
-
     @Override
     public GasNetwork createNewNetwork() {
         return new GasNetwork();
@@ -256,6 +262,13 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
                 transmitterNetwork.buffer.shrink(lastWrite.getAmount());
                 buffer.setStack(lastWrite);
             }
+            for (int i = 0; i < lastWriteOther.size(); i++) {
+                Gas type = lastWriteOther.getType(i);
+                int amount = Math.min(lastWriteOther.getAmount(i), transmitterNetwork.otherGases.getAmount(type));
+                transmitterNetwork.otherGases.shrink(type, amount);
+                otherGases.add(type, amount);
+            }
+            transmitterNetwork.validateBuffer();
         }
     }
 
@@ -331,7 +344,9 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
     @Nullable
     @Override
     protected PressurizedTubeUpgradeData getUpgradeData() {
-        return new PressurizedTubeUpgradeData(redstoneReactive, connectionTypes, getBuffer());
+        MultiGasBuffer upgradeGases = new MultiGasBuffer();
+        upgradeGases.addAll(otherGases);
+        return new PressurizedTubeUpgradeData(redstoneReactive, connectionTypes, getBuffer(), upgradeGases);
     }
 
     @Override
@@ -341,6 +356,14 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
             redstoneReactive = data.redstoneReactive;
             connectionTypes = data.connectionTypes;
             takeGas(data.contents, Action.EXECUTE);
+            if (getTransmitter().hasTransmitterNetwork()) {
+                for (int i = 0; i < data.otherGases.size(); i++) {
+                    takeGas(new GasStack(data.otherGases.getType(i), data.otherGases.getAmount(i)), Action.EXECUTE);
+                }
+            } else {
+                //Our own buffer only holds one type, the others get merged into the network once we join one
+                otherGases.addAll(data.otherGases);
+            }
         } else {
             super.parseUpgradeData(upgradeData);
         }
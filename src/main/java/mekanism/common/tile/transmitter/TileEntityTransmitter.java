@@ -86,6 +86,7 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
     @Override
     public void onChunkUnloaded() {
         if (!isRemote()) {
+            //The chunk was already saved, take back exactly the share that got written
             getTransmitter().takeShare();
         }
         super.onChunkUnloaded();
@@ -254,6 +255,8 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
                             //Skip if it would not actually upgrade anything
                             continue;
                         }
+                        //Shares are only worked out when saving, so make sure the one we take is up to date
+                        transmitter.updateShare();
                         transmitter.takeShare();
                         transmitter.setTransmitterNetwork(null);
                         TransmitterUpgradeData upgradeData = t.getUpgradeData();
@@ -1,8 +1,7 @@
 package mekanism.common.tile.transmitter;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.block.IHasTileEntity;
@@ -28,6 +27,7 @@ import mekanism.common.upgrade.transmitter.TransmitterUpgradeData;
 import mekanism.common.upgrade.transmitter.UniversalCableUpgradeData;
 import mekanism.common.util.CableUtils;
 import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
@@ -47,6 +47,8 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     public double lastWrite = 0;
 
     public EnergyStack buffer = new EnergyStack(0);
+    private final TileEntity[] pullOutputters = new TileEntity[EnumUtils.DIRECTIONS.length];
+    private final LazyOptional<?>[] pullCapabilities = new LazyOptional<?>[EnumUtils.DIRECTIONS.length];
     private CapabilityWrapperManager<TileEntityUniversalCable, ForgeEnergyCableIntegration> forgeEnergyManager =
           new CapabilityWrapperManager<>(TileEntityUniversalCable.class, ForgeEnergyCableIntegration.class);
 
@@ -62,35 +64,106 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
             if (Math.abs(currentPower - targetPower) > 0.01) {
                 currentPower = (9 * currentPower + targetPower) / 10;
             }
-        } else {
-            updateShare();
-            List<Direction> connections = getConnections(ConnectionType.PULL);
-            if (!connections.isEmpty()) {
-                TileEntity[] connectedOutputters = CableUtils.getConnectedOutputters(this, getPos(), getWorld());
-                double maxDraw = tier.getCableCapacity();
-                for (Direction side : connections) {
-                    TileEntity outputter = connectedOutputters[side.ordinal()];
-                    if (outputter != null) {
-                        Optional<IStrictEnergyStorage> storageCapability = MekanismUtils.toOptional(CapabilityUtils.getCapability(outputter, Capabilities.ENERGY_STORAGE_CAPABILITY, side.getOpposite()));
-                        if (storageCapability.isPresent()) {
-                            IStrictEnergyStorage strictStorage = storageCapability.get();
-                            double received = draw(Math.min(strictStorage.getEnergy(), maxDraw));
-                            strictStorage.setEnergy(strictStorage.getEnergy() - received);
-                            continue;
-                        }
-                        Optional<IEnergyStorage> forgeCapability = MekanismUtils.toOptional(CapabilityUtils.getCapability(outputter, CapabilityEnergy.ENERGY, side.getOpposite()));
-                        if (forgeCapability.isPresent()) {
-                            //Forge Energy
-                            IEnergyStorage forgeStorage = forgeCapability.get();
-                            double received = draw(ForgeEnergyIntegration.fromForge(forgeStorage.extractEnergy(ForgeEnergyIntegration.toForge(maxDraw), true)));
-                            forgeStorage.extractEnergy(ForgeEnergyIntegration.toForge(received), false);
-                            //TODO: When adding support for more power types put a continue statement here
-                        }
-                    }
+        }
+        super.tick();
+    }
+
+    /**
+     * Pulls energy out of the tiles connected on our {@link ConnectionType#PULL} sides. This is called by our {@link EnergyNetwork} so that all pulling cables of a
+     * network are handled in a single pass.
+     */
+    public void pullEnergy() {
+        double maxDraw = tier.getCableCapacity();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (getConnectionType(side) == ConnectionType.PULL) {
+                Object storage = getPullCapability(side).orElse(null);
+                if (storage instanceof IStrictEnergyStorage) {
+                    IStrictEnergyStorage strictStorage = (IStrictEnergyStorage) storage;
+                    double received = draw(Math.min(strictStorage.getEnergy(), maxDraw));
+                    strictStorage.setEnergy(strictStorage.getEnergy() - received);
+                } else if (storage instanceof IEnergyStorage) {
+                    //Forge Energy
+                    IEnergyStorage forgeStorage = (IEnergyStorage) storage;
+                    double received = draw(ForgeEnergyIntegration.fromForge(forgeStorage.extractEnergy(ForgeEnergyIntegration.toForge(maxDraw), true)));
+                    forgeStorage.extractEnergy(ForgeEnergyIntegration.toForge(received), false);
                 }
             }
         }
-        super.tick();
+    }
+
+    /**
+     * @return {@code true} if any side of this cable is set to pull.
+     */
+    public boolean hasPullConnections() {
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (getConnectionType(side) == ConnectionType.PULL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the energy storage of the outputter on the given side, resolving it only if the cached one is no longer usable. The cache gets cleared when the capability
+     * is invalidated, and when the neighbor on that side changes.
+     */
+    @Nonnull
+    private LazyOptional<?> getPullCapability(Direction side) {
+        int index = side.ordinal();
+        TileEntity outputter = pullOutputters[index];
+        if (outputter != null && (outputter.isRemoved() || !getWorld().isBlockLoaded(outputter.getPos()))) {
+            invalidatePullCapability(side);
+        }
+        LazyOptional<?> capability = pullCapabilities[index];
+        if (capability == null) {
+            outputter = MekanismUtils.getTileEntity(getWorld(), getPos().offset(side));
+            pullOutputters[index] = outputter;
+            if (CableUtils.isOutputter(this, outputter, side)) {
+                LazyOptional<IStrictEnergyStorage> strictStorage = CapabilityUtils.getCapability(outputter, Capabilities.ENERGY_STORAGE_CAPABILITY, side.getOpposite());
+                capability = strictStorage.isPresent() ? cachePullCapability(index, strictStorage)
+                                                       : cachePullCapability(index, CapabilityUtils.getCapability(outputter, CapabilityEnergy.ENERGY, side.getOpposite()));
+            } else {
+                capability = LazyOptional.empty();
+            }
+            pullCapabilities[index] = capability;
+        }
+        return capability;
+    }
+
+    private <T> LazyOptional<T> cachePullCapability(int index, LazyOptional<T> capability) {
+        if (capability.isPresent()) {
+            capability.addListener(invalidated -> {
+                if (pullCapabilities[index] == invalidated) {
+                    pullCapabilities[index] = null;
+                    pullOutputters[index] = null;
+                }
+            });
+        }
+        return capability;
+    }
+
+    private void invalidatePullCapability(Direction side) {
+        pullCapabilities[side.ordinal()] = null;
+        pullOutputters[side.ordinal()] = null;
+    }
+
+    @Override
+    public void markDirtyAcceptor(Direction side) {
+        invalidatePullCapability(side);
+        super.markDirtyAcceptor(side);
+    }
+
+    @Override
+    public void onNeighborTileChange(Direction side) {
+        invalidatePullCapability(side);
+        super.onNeighborTileChange(side);
+    }
+
+    @Override
+    public void onNeighborBlockChange(Direction side) {
+        Arrays.fill(pullCapabilities, null);
+        Arrays.fill(pullOutputters, null);
+        super.onNeighborBlockChange(side);
     }
 
     /**
@@ -110,11 +183,7 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Override
     public void updateShare() {
         if (getTransmitter().hasTransmitterNetwork() && getTransmitter().getTransmitterNetworkSize() > 0) {
-            double last = getSaveShare();
-            if (last != lastWrite) {
-                lastWrite = last;
-                markDirty();
-            }
+            lastWrite = getSaveShare();
         }
     }
 
@@ -143,6 +212,10 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
+        if (!isRemote()) {
+            //Our share is only worked out when we actually get saved, the network marks our chunk as modified when it changes
+            updateShare();
+        }
         nbtTags.putDouble("cacheEnergy", lastWrite);
         return nbtTags;
     }
@@ -13,6 +13,7 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, BUFFER>, BUFFER> extends Transmitter<ACCEPTOR, NETWORK, BUFFER> {
@@ -38,18 +39,42 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
         return new Coord4D(getTileEntity().getPos(), world());
     }
 
+    @Override
+    public BlockPos getPos() {
+        return getTileEntity().getPos();
+    }
+
     @Override
     public Coord4D getAdjacentConnectableTransmitterCoord(Direction side) {
-        Coord4D sideCoord = coord().offset(side);
-        TileEntity potentialTransmitterTile = MekanismUtils.getTileEntity(world(), sideCoord.getPos());
+        return getAdjacentConnectableTransmitter(side) == null ? null : coord().offset(side);
+    }
+
+    @Nullable
+    @Override
+    public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentConnectableTransmitter(Direction side) {
         if (!containingTile.canConnectMutual(side)) {
             return null;
         }
-        Optional<IGridTransmitter<?, ?, ?>> gridTransmitter = MekanismUtils.toOptional(CapabilityUtils.getCapability(potentialTransmitterTile,
-              Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite()));
-        if (gridTransmitter.isPresent() && TransmissionType.checkTransmissionType(gridTransmitter.get(), getTransmissionType()) &&
-            containingTile.isValidTransmitter(potentialTransmitterTile)) {
-            return sideCoord;
+        TileEntity potentialTransmitterTile = MekanismUtils.getTileEntity(world(), getPos().offset(side));
+        IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = getTransmitter(potentialTransmitterTile, side);
+        if (transmitter != null && containingTile.isValidTransmitter(potentialTransmitterTile)) {
+            return transmitter;
+        }
+        return null;
+    }
+
+    @Nullable
+    @Override
+    public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentTransmitter(Direction side) {
+        return getTransmitter(MekanismUtils.getTileEntity(world(), getPos().offset(side)), side);
+    }
+
+    @Nullable
+    private IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getTransmitter(@Nullable TileEntity tile, Direction side) {
+        Optional<IGridTransmitter<?, ?, ?>> gridTransmitter = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY,
+              side.getOpposite()));
+        if (gridTransmitter.isPresent() && TransmissionType.checkTransmissionType(gridTransmitter.get(), getTransmissionType())) {
+            return (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) gridTransmitter.get();
         }
         return null;
     }
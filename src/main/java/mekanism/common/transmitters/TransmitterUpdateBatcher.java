@@ -0,0 +1,93 @@
+package mekanism.common.transmitters;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.PacketTransmitterUpdate.PacketType;
+import mekanism.common.transmitters.grid.EnergyNetwork;
+import mekanism.common.transmitters.grid.FluidNetwork;
+import mekanism.common.transmitters.grid.GasNetwork;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
+
+/**
+ * Coalesces the visual updates of transmitter networks, so that a network that transfers several times in a tick, or every tick, only sends its latest state to the
+ * players tracking it at most once every {@link mekanism.common.config.GeneralConfig#transmitterUpdateInterval} ticks. An update that is held back is always sent once the
+ * interval has passed, so clients never end up with a stale state. The update is only built when it gets sent, from the state the network is in at that point.
+ */
+public final class TransmitterUpdateBatcher {
+
+    private static final Set<DynamicNetwork<?, ?, ?>> pendingUpdates = new LinkedHashSet<>();
+    private static final Map<DynamicNetwork<?, ?, ?>, Long> lastSent = new WeakHashMap<>();
+    private static long ticks;
+
+    private TransmitterUpdateBatcher() {
+    }
+
+    /**
+     * Queues an update of the network, if it already has one queued that has not been sent yet this does nothing.
+     */
+    public static void queue(DynamicNetwork<?, ?, ?> network) {
+        pendingUpdates.add(network);
+    }
+
+    public static void onTick(ServerTickEvent event) {
+        if (event.phase == Phase.END && event.side.isServer()) {
+            ticks++;
+            if (!pendingUpdates.isEmpty()) {
+                flush();
+            }
+        }
+    }
+
+    private static void flush() {
+        int interval = MekanismConfig.general.transmitterUpdateInterval.get();
+        Iterator<DynamicNetwork<?, ?, ?>> iterator = pendingUpdates.iterator();
+        while (iterator.hasNext()) {
+            DynamicNetwork<?, ?, ?> network = iterator.next();
+            if (network.getSize() == 0) {
+                //The network got removed since the update was queued
+                iterator.remove();
+                continue;
+            }
+            Long last = lastSent.get(network);
+            if (last == null || ticks - last >= interval) {
+                PacketTransmitterUpdate update = createUpdate(network);
+                if (update != null) {
+                    Mekanism.packetHandler.sendToAllTracking(update, network);
+                    lastSent.put(network, ticks);
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    @Nullable
+    private static PacketTransmitterUpdate createUpdate(DynamicNetwork<?, ?, ?> network) {
+        Coord4D coord = network.firstTransmitter().coord();
+        if (network instanceof EnergyNetwork) {
+            return new PacketTransmitterUpdate(PacketType.ENERGY, coord, ((EnergyNetwork) network).getLastPowerScale());
+        } else if (network instanceof GasNetwork) {
+            GasNetwork gasNetwork = (GasNetwork) network;
+            return new PacketTransmitterUpdate(PacketType.GAS, coord, gasNetwork.buffer, gasNetwork.didTransfer);
+        } else if (network instanceof FluidNetwork) {
+            FluidNetwork fluidNetwork = (FluidNetwork) network;
+            return new PacketTransmitterUpdate(PacketType.FLUID, coord, fluidNetwork.buffer, fluidNetwork.didTransfer);
+        }
+        return null;
+    }
+
+    public static void reset() {
+        pendingUpdates.clear();
+        lastSent.clear();
+        ticks = 0;
+    }
+}
@@ -1,22 +1,28 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 import javax.annotation.Nonnull;
-import mekanism.api.Coord4D;
+import javax.annotation.Nullable;
 import mekanism.api.energy.EnergyStack;
+import mekanism.api.transmitters.CachedAcceptor;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.EnergyAcceptorWrapper;
 import mekanism.common.base.target.EnergyAcceptorTarget;
+import mekanism.common.tile.transmitter.TileEntityUniversalCable;
+import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -28,6 +34,15 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     private double lastPowerScale = 0;
     private double joulesTransmitted = 0;
     private double jouleBufferLastTick = 0;
+    /**
+     * Reused every tick to collect the handlers being emitted into.
+     */
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget();
+    /**
+     * Cables of this network that have a side set to pull, rebuilt when the layout of the network changes as that includes changes to connection types.
+     */
+    private final List<TileEntityUniversalCable> pullCables = new ArrayList<>();
+    private boolean pullCablesDirty = true;
 
     public EnergyNetwork() {
     }
@@ -88,32 +103,42 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
         return getCapacityAsDouble() - buffer.amount;
     }
 
-    private double tickEmit(double energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new HashSet<>();
-        int totalHandlers = 0;
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
+    @Nullable
+    @Override
+    protected CachedAcceptor<EnergyAcceptorWrapper> resolveAcceptor(BlockPos pos, byte sides) {
+        TileEntity tile = MekanismUtils.getTileEntity(getWorld(), pos);
+        if (tile == null) {
+            return null;
+        }
+        CachedAcceptor<EnergyAcceptorWrapper> cached = new CachedAcceptor<>(tile);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (hasSide(sides, side)) {
+                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side, cached::invalidate);
+                if (acceptor != null) {
+                    cached.addAcceptor(side, acceptor);
+                }
             }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
-            if (tile == null) {
+        }
+        return cached;
+    }
+
+    private double tickEmit(double energyToSend) {
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            CachedAcceptor<EnergyAcceptorWrapper> cached = getCachedAcceptor(entry.getLongKey());
+            if (cached == null) {
                 continue;
             }
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            for (Direction side : sides) {
-                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
+            for (int i = 0; i < cached.size(); i++) {
+                Direction side = cached.getSide(i);
+                EnergyAcceptorWrapper acceptor = cached.getAcceptor(i);
                 if (acceptor != null && acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side)) {
-                    target.addHandler(side, acceptor);
+                    emitTarget.addHandler(side, acceptor);
                 }
             }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
-            }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend);
+        double sent = EmitUtils.sendToAcceptors(emitTarget, energyToSend);
+        emitTarget.clear();
+        return sent;
     }
 
     public double emit(double energyToSend, boolean doEmit) {
@@ -126,12 +151,38 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
     @Override
     public String toString() {
-        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
+    }
+
+    @Override
+    protected void onTopologyChanged() {
+        pullCablesDirty = true;
+    }
+
+    private void updatePullCables() {
+        pullCablesDirty = false;
+        pullCables.clear();
+        for (IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> transmitter : transmitters) {
+            if (transmitter instanceof TransmitterImpl) {
+                TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
+                if (tile instanceof TileEntityUniversalCable && ((TileEntityUniversalCable) tile).hasPullConnections()) {
+                    pullCables.add((TileEntityUniversalCable) tile);
+                }
+            }
+        }
     }
 
     @Override
     public void onUpdate() {
         super.onUpdate();
+        if (!isRemote()) {
+            if (pullCablesDirty) {
+                updatePullCables();
+            }
+            for (TileEntityUniversalCable cable : pullCables) {
+                cable.pullEnergy();
+            }
+        }
         clearJoulesTransmitted();
 
         double currentPowerScale = getPowerScale();
@@ -148,9 +199,23 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
                 joulesTransmitted = tickEmit(buffer.amount);
                 buffer.amount -= joulesTransmitted;
             }
+            updateSaveShares(buffer.amount);
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //With nothing in the buffer now or last tick the power scale stays at zero and there is nothing to emit, pulling cables still need to run every tick
+        return !hasPendingUpdates() && !pullCablesDirty && pullCables.isEmpty() && !needsUpdate && buffer.amount == 0 && jouleBufferLastTick == 0 && joulesTransmitted == 0 && lastPowerScale == 0;
+    }
+
+    /**
+     * @return The power scale that was last sent to clients.
+     */
+    public double getLastPowerScale() {
+        return lastPowerScale;
+    }
+
     public double getPowerScale() {
         return Math.max(jouleBufferLastTick == 0 ? 0 : Math.min(Math.ceil(Math.log10(getPower()) * 2) / 10, 1), getCapacityAsDouble() == 0 ? 0 : buffer.amount / getCapacityAsDouble());
     }
@@ -181,7 +246,7 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     public static class EnergyTransferEvent extends Event {
@@ -1,28 +1,28 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
 import javax.annotation.Nonnull;
-import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.target.FluidHandlerTarget;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.PipeUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
-import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
+import net.minecraftforge.fluids.capability.IFluidHandler;
 
 public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, FluidStack> {
 
@@ -38,6 +38,10 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
     public int prevStored;
 
     public int prevTransferAmount = 0;
+    /**
+     * Reused every tick to collect the handlers being emitted into.
+     */
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget(FluidStack.EMPTY);
 
     public FluidNetwork() {
     }
@@ -105,32 +109,26 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
     }
 
     private int tickEmit(@Nonnull FluidStack fluidToSend) {
-        Set<FluidHandlerTarget> availableAcceptors = new HashSet<>();
-        int totalHandlers = 0;
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
+        emitTarget.reset(fluidToSend);
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), BlockPos.fromLong(entry.getLongKey()));
             if (tile == null) {
                 continue;
             }
-            FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (PipeUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(side, acceptor);
-                    }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+            byte sides = entry.getByteValue();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sides, side)) {
+                    CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
+                        if (PipeUtils.canFill(acceptor, fluidToSend)) {
+                            emitTarget.addHandler(side, acceptor);
+                        }
+                    });
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.getAmount(), fluidToSend);
+        int sent = EmitUtils.sendToAcceptors(emitTarget, fluidToSend.getAmount());
+        emitTarget.clear();
+        return sent;
     }
 
     public int emit(@Nonnull FluidStack fluidToSend, FluidAction fluidAction) {
@@ -182,9 +180,16 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
                     }
                 }
             }
+            updateSaveShares(buffer.getAmount());
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //Nothing stored, nothing stored last tick, and the transfer state already settled
+        return !hasPendingUpdates() && !needsUpdate && buffer.isEmpty() && prevStored == 0 && prevTransferAmount == 0 && transferDelay == 0 && !didTransfer && !prevTransfer;
+    }
+
     @Override
     public void clientTick() {
         super.clientTick();
@@ -205,7 +210,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public String toString() {
-        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
@@ -238,7 +243,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.FLUID_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.FLUID_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     public static class FluidTransferEvent extends Event {
@@ -1,12 +1,11 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.Action;
-import mekanism.api.Coord4D;
 import mekanism.api.gas.Gas;
 import mekanism.api.gas.GasStack;
 import mekanism.api.gas.IGasHandler;
@@ -15,12 +14,16 @@ import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.target.GasHandlerTarget;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.transmitter.TileEntityPressurizedTube;
+import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.TextComponentUtil;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -43,9 +46,18 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Nonnull
     public GasStack buffer = GasStack.EMPTY;
+    /**
+     * Gases of other types than {@link #buffer} that ended up in this network. These share the capacity of the network and get emitted alongside the main buffer. As
+     * long as there are any, {@link #buffer} is not empty.
+     */
+    public final MultiGasBuffer otherGases = new MultiGasBuffer();
     public int prevStored;
 
     public int prevTransferAmount = 0;
+    /**
+     * Reused every tick to collect the handlers being emitted into.
+     */
+    private GasHandlerTarget[] emitTargets = {new GasHandlerTarget(GasStack.EMPTY)};
 
     public GasNetwork() {
     }
@@ -72,15 +84,18 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
             }
         } else {
             if (!net.buffer.isEmpty()) {
-                if (buffer.isEmpty()) {
-                    buffer = net.buffer.copy();
-                } else if (buffer.isTypeEqual(net.buffer)) {
-                    buffer.grow(net.buffer.getAmount());
-                } else if (net.buffer.getAmount() > buffer.getAmount()) {
-                    buffer = net.buffer.copy();
+                if (!buffer.isEmpty() && !buffer.isTypeEqual(net.buffer) && net.buffer.getAmount() > buffer.getAmount()) {
+                    //Keep the larger of the two as the main buffer
+                    otherGases.add(buffer.getType(), buffer.getAmount());
+                    buffer = GasStack.EMPTY;
                 }
+                addGas(net.buffer.getType(), net.buffer.getAmount());
                 net.buffer = GasStack.EMPTY;
             }
+            for (int i = 0; i < net.otherGases.size(); i++) {
+                addGas(net.otherGases.getType(i), net.otherGases.getAmount(i));
+            }
+            net.otherGases.clear();
         }
         super.adoptTransmittersAndAcceptorsFrom(net);
     }
@@ -94,75 +109,128 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
     @Override
     public void absorbBuffer(IGridTransmitter<IGasHandler, GasNetwork, GasStack> transmitter) {
         GasStack gas = transmitter.getBuffer();
-        if (gas.isEmpty()) {
+        if (!gas.isEmpty()) {
+            addGas(gas.getType(), gas.getAmount());
+            gas.setAmount(0);
+        }
+        if (transmitter instanceof TransmitterImpl) {
+            TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
+            if (tile instanceof TileEntityPressurizedTube) {
+                MultiGasBuffer tubeGases = ((TileEntityPressurizedTube) tile).otherGases;
+                for (int i = 0; i < tubeGases.size(); i++) {
+                    addGas(tubeGases.getType(i), tubeGases.getAmount(i));
+                }
+                tubeGases.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds gas to the main buffer if it is empty or of the same type, and to {@link #otherGases} otherwise.
+     */
+    private void addGas(@Nonnull Gas type, int amount) {
+        if (amount <= 0) {
             return;
         }
         if (buffer.isEmpty()) {
-            buffer = gas.copy();
-            gas.setAmount(0);
-            return;
+            buffer = new GasStack(type, amount);
+        } else if (buffer.getType() == type) {
+            buffer.grow(amount);
+        } else {
+            otherGases.add(type, amount);
         }
+    }
 
-        //TODO better multiple buffer impl
-        if (buffer.isTypeEqual(gas)) {
-            buffer.grow(gas.getAmount());
+    /**
+     * Makes sure that if there are any other gases the main buffer is not empty, by moving the largest of them into it.
+     */
+    public void validateBuffer() {
+        if (buffer.isEmpty()) {
+            buffer = GasStack.EMPTY;
+            int largest = otherGases.getLargest();
+            if (largest != -1) {
+                buffer = new GasStack(otherGases.getType(largest), otherGases.getAmount(largest));
+                otherGases.remove(largest);
+            }
         }
-        gas.setAmount(0);
     }
 
     @Override
     public void clampBuffer() {
+        //Other gases give up their space first
+        otherGases.clampTotal(getCapacity() - buffer.getAmount());
         if (!buffer.isEmpty() && buffer.getAmount() > getCapacity()) {
             buffer.setAmount(getCapacity());
         }
     }
 
     public int getGasNeeded() {
-        return getCapacity() - buffer.getAmount();
+        return getCapacity() - buffer.getAmount() - otherGases.getTotal();
     }
 
-    private int tickEmit(@Nonnull GasStack stack) {
-        Set<GasHandlerTarget> availableAcceptors = new HashSet<>();
-        int totalHandlers = 0;
-        Gas type = stack.getType();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
+    /**
+     * Emits the main buffer and all other gases in one pass over the acceptors, each gas going to the acceptors that can receive it.
+     *
+     * @return The total amount that got sent.
+     */
+    private int tickEmit() {
+        int types = 1 + otherGases.size();
+        if (emitTargets.length < types) {
+            int oldLength = emitTargets.length;
+            emitTargets = Arrays.copyOf(emitTargets, types);
+            for (int i = oldLength; i < types; i++) {
+                emitTargets[i] = new GasHandlerTarget(GasStack.EMPTY);
             }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
+        }
+        emitTargets[0].reset(buffer);
+        for (int i = 1; i < types; i++) {
+            emitTargets[i].reset(new GasStack(otherGases.getType(i - 1), otherGases.getAmount(i - 1)));
+        }
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), BlockPos.fromLong(entry.getLongKey()));
             if (tile == null) {
                 continue;
             }
-            GasHandlerTarget target = new GasHandlerTarget(stack);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (acceptor.canReceiveGas(side, type)) {
-                        target.addHandler(side, acceptor);
-                    }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+            byte sides = entry.getByteValue();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (hasSide(sides, side)) {
+                    CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
+                        if (acceptor.canReceiveGas(side, buffer.getType())) {
+                            emitTargets[0].addHandler(side, acceptor);
+                        }
+                        for (int i = 1; i < types; i++) {
+                            if (acceptor.canReceiveGas(side, otherGases.getType(i - 1))) {
+                                emitTargets[i].addHandler(side, acceptor);
+                            }
+                        }
+                    });
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.getAmount(), stack);
+        int sent = EmitUtils.sendToAcceptors(emitTargets[0], buffer.getAmount());
+        buffer.shrink(sent);
+        emitTargets[0].clear();
+        //Go backwards so that removing emptied slices does not shift the ones we still have to send
+        for (int i = types - 1; i > 0; i--) {
+            int sentOther = EmitUtils.sendToAcceptors(emitTargets[i], otherGases.getAmount(i - 1));
+            otherGases.shrink(i - 1, sentOther);
+            sent += sentOther;
+            emitTargets[i].clear();
+        }
+        validateBuffer();
+        return sent;
     }
 
+    /**
+     * Accepts gas of any type, gases that differ from the main buffer get stored in {@link #otherGases}.
+     */
     public int emit(@Nonnull GasStack stack, Action action) {
-        if (stack.isEmpty() || (!buffer.isEmpty() && !buffer.isTypeEqual(stack))) {
+        if (stack.isEmpty()) {
             return 0;
         }
         int toUse = Math.min(getGasNeeded(), stack.getAmount());
         if (action.execute()) {
-            if (buffer.isEmpty()) {
-                buffer = stack.copy();
-                buffer.setAmount(toUse);
-            } else {
-                buffer.grow(toUse);
-            }
+            addGas(stack.getType(), toUse);
         }
         return toUse;
     }
@@ -178,7 +246,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
                 transferDelay--;
             }
 
-            int stored = buffer.getAmount();
+            int stored = buffer.getAmount() + otherGases.getTotal();
             if (stored != prevStored) {
                 needsUpdate = true;
             }
@@ -190,17 +258,24 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
             }
 
             prevTransfer = didTransfer;
+            validateBuffer();
             if (!buffer.isEmpty()) {
-                prevTransferAmount = tickEmit(buffer);
+                prevTransferAmount = tickEmit();
                 if (prevTransferAmount > 0) {
                     didTransfer = true;
                     transferDelay = 2;
                 }
-                buffer.shrink(prevTransferAmount);
             }
+            updateSaveShares(buffer.getAmount() + otherGases.getTotal());
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        //Nothing stored, nothing stored last tick, and the transfer state already settled
+        return !hasPendingUpdates() && !needsUpdate && buffer.isEmpty() && prevStored == 0 && prevTransferAmount == 0 && transferDelay == 0 && !didTransfer && !prevTransfer;
+    }
+
     @Override
     public void clientTick() {
         super.clientTick();
@@ -221,7 +296,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Override
     public String toString() {
-        return "[GasNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[GasNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
@@ -242,19 +317,9 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
         return MekanismLang.NETWORK_MB_PER_TICK.translate(prevTransferAmount);
     }
 
-    @Override
-    public boolean isCompatibleWith(GasNetwork other) {
-        return super.isCompatibleWith(other) && (this.buffer.isEmpty() || other.buffer.isEmpty() || this.buffer.isTypeEqual(other.buffer));
-    }
-
-    @Override
-    public boolean compatibleWithBuffer(@Nonnull GasStack buffer) {
-        return super.compatibleWithBuffer(buffer) && (this.buffer.isEmpty() || buffer.isEmpty() || this.buffer.isTypeEqual(buffer));
-    }
-
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.GAS_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.GAS_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     public static class GasTransferEvent extends Event {
@@ -1,16 +1,29 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import mekanism.api.IHeatTransfer;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.transmitter.TileEntitySidedPipe;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
 import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 
 public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void> {
@@ -20,6 +33,29 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
     public double heatLost = 0;
     public double heatTransferred = 0;
 
+    private boolean graphDirty = true;
+    private TileEntityThermodynamicConductor[] nodes = new TileEntityThermodynamicConductor[0];
+    private double[] temperatures;
+    private double[] heat;
+    private double[] inverseConduction;
+    /**
+     * Sum of the conductance of all sides of each conductor that lose heat to the air.
+     */
+    private double[] airConductance;
+    /**
+     * The conductors each conductor gives heat to are at the indices {@code edgeStart[i]} until {@code edgeStart[i + 1]} of {@link #edgeTarget} and {@link
+     * #edgeConductance}.
+     */
+    private int[] edgeStart;
+    private int[] edgeTarget;
+    private double[] edgeConductance;
+    /**
+     * The acceptors each conductor gives heat to are at the indices {@code acceptorStart[i]} until {@code acceptorStart[i + 1]} of {@link #acceptors}.
+     */
+    private int[] acceptorStart;
+    private IHeatTransfer[] acceptors;
+    private TileEntity[] acceptorTiles;
+
     public HeatNetwork() {
     }
 
@@ -64,6 +100,11 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
         //The capacity is always zero so no point in doing calculations.
     }
 
+    @Override
+    protected void onTopologyChanged() {
+        graphDirty = true;
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -73,18 +114,43 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
         double newHeatTransferred = 0;
 
         if (!isRemote()) {
-            for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
-                if (transmitter instanceof TransmitterImpl) {
-                    Optional<IHeatTransfer> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity(),
-                          Capabilities.HEAT_TRANSFER_CAPABILITY, null));
-                    if (capability.isPresent()) {
-                        IHeatTransfer heatTransmitter = capability.get();
-                        double[] d = heatTransmitter.simulateHeat();
-                        newHeatTransferred += d[0];
-                        newHeatLost += d[1];
-                        newSumTemp += heatTransmitter.applyTemperatureChange();
+            if (graphDirty) {
+                compileGraph();
+            }
+            int count = nodes.length;
+            //Every node gives off heat based on the temperature it had at the start of the tick
+            for (int i = 0; i < count; i++) {
+                temperatures[i] = nodes[i].temperature;
+                heat[i] = 0;
+            }
+            for (int i = 0; i < count; i++) {
+                double temp = temperatures[i];
+                double lost = temp * airConductance[i];
+                double given = lost;
+                for (int edge = edgeStart[i], end = edgeStart[i + 1]; edge < end; edge++) {
+                    double toTransfer = temp * edgeConductance[edge];
+                    heat[edgeTarget[edge]] += toTransfer;
+                    given += toTransfer;
+                }
+                for (int acceptor = acceptorStart[i], end = acceptorStart[i + 1]; acceptor < end; acceptor++) {
+                    if (acceptorTiles[acceptor].isRemoved()) {
+                        //Should already be handled by the acceptor change, but make sure we don't keep heating a removed tile
+                        graphDirty = true;
+                        continue;
                     }
+                    IHeatTransfer sink = acceptors[acceptor];
+                    double toTransfer = temp / (sink.getInverseConductionCoefficient() + inverseConduction[i]);
+                    sink.transferHeatTo(toTransfer);
+                    given += toTransfer;
+                    newHeatTransferred += toTransfer;
                 }
+                heat[i] -= given;
+                newHeatLost += lost;
+            }
+            for (int i = 0; i < count; i++) {
+                TileEntityThermodynamicConductor node = nodes[i];
+                node.transferHeatTo(heat[i]);
+                newSumTemp += node.applyTemperatureChange();
             }
         }
         heatLost = newHeatLost;
@@ -92,13 +158,80 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
         meanTemp = newSumTemp / transmitters.size();
     }
 
+    /**
+     * Flattens the conductors of this network and what they are connected to into arrays, so that simulating a tick does not have to look up any neighbors or
+     * capabilities. Conductors are connected to each other through {@link #edgeTarget}, heat given to anything else goes through {@link #acceptors}, and every side
+     * without either loses heat to the air.
+     */
+    private void compileGraph() {
+        graphDirty = false;
+        List<TileEntityThermodynamicConductor> conductors = new ArrayList<>(transmitters.size());
+        Object2IntMap<TileEntityThermodynamicConductor> indices = new Object2IntOpenHashMap<>(transmitters.size());
+        indices.defaultReturnValue(-1);
+        for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
+            if (transmitter instanceof TransmitterImpl) {
+                TileEntity tile = ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity();
+                if (tile instanceof TileEntityThermodynamicConductor) {
+                    indices.put((TileEntityThermodynamicConductor) tile, conductors.size());
+                    conductors.add((TileEntityThermodynamicConductor) tile);
+                }
+            }
+        }
+        int count = conductors.size();
+        nodes = conductors.toArray(new TileEntityThermodynamicConductor[0]);
+        temperatures = new double[count];
+        heat = new double[count];
+        inverseConduction = new double[count];
+        airConductance = new double[count];
+        edgeStart = new int[count + 1];
+        acceptorStart = new int[count + 1];
+        IntList targets = new IntArrayList();
+        DoubleList conductances = new DoubleArrayList();
+        List<IHeatTransfer> sinks = new ArrayList<>();
+        List<TileEntity> sinkTiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TileEntityThermodynamicConductor conductor = nodes[i];
+            double inverse = conductor.getInverseConductionCoefficient();
+            inverseConduction[i] = inverse;
+            edgeStart[i] = targets.size();
+            acceptorStart[i] = sinks.size();
+            byte connections = conductor.getAllCurrentConnections();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (TileEntitySidedPipe.connectionMapContainsSide(connections, side)) {
+                    TileEntity adjacent = MekanismUtils.getTileEntity(conductor.getWorld(), conductor.getPos().offset(side));
+                    Optional<IHeatTransfer> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(adjacent, Capabilities.HEAT_TRANSFER_CAPABILITY,
+                          side.getOpposite()));
+                    if (capability.isPresent()) {
+                        IHeatTransfer sink = capability.get();
+                        int target = sink instanceof TileEntityThermodynamicConductor ? indices.getInt(sink) : -1;
+                        if (target != -1) {
+                            targets.add(target);
+                            conductances.add(1 / (sink.getInverseConductionCoefficient() + inverse));
+                        } else {
+                            sinks.add(sink);
+                            sinkTiles.add(adjacent);
+                        }
+                        continue;
+                    }
+                }
+                airConductance[i] += 1 / (IHeatTransfer.AIR_INVERSE_COEFFICIENT + conductor.getInsulationCoefficient(side) + inverse);
+            }
+        }
+        edgeStart[count] = targets.size();
+        acceptorStart[count] = sinks.size();
+        edgeTarget = targets.toIntArray();
+        edgeConductance = conductances.toDoubleArray();
+        acceptors = sinks.toArray(new IHeatTransfer[0]);
+        acceptorTiles = sinkTiles.toArray(new TileEntity[0]);
+    }
+
     @Override
     public String toString() {
-        return "[HeatNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[HeatNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors.";
     }
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.HEAT_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.HEAT_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 }
\ No newline at end of file
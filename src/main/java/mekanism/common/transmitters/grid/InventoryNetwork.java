@@ -1,5 +1,7 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -9,17 +11,22 @@ import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
-import mekanism.common.content.transporter.TransitRequest;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
+import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 
 public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwork, Void> {
 
+    private final PathfinderCache pathCache = new PathfinderCache();
+
     public InventoryNetwork() {
     }
 
@@ -33,28 +40,57 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         register();
     }
 
+    public PathfinderCache getPathCache() {
+        return pathCache;
+    }
+
+    @Override
+    public void commit() {
+        for (IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter : transmittersToAdd) {
+            pathCache.onAdded(transmitter.coord());
+        }
+        super.commit();
+    }
+
+    @Override
+    public void adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        //Adopted transporters can give existing paths a shorter route the same way newly committed ones can, the ones still waiting to be added get handled in commit
+        for (IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter : net.transmitters) {
+            pathCache.onAdded(transmitter.coord());
+        }
+        super.adoptTransmittersAndAcceptorsFrom(net);
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        pathCache.reset();
+    }
+
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Coord4D coord : possibleAcceptors) {
-            if (coord == null || coord.equals(stack.homeLocation)) {
+        BlockPos home = stack.homeLocation == null ? null : stack.homeLocation.getPos();
+        for (Long2ByteMap.Entry entry : Long2ByteMaps.fastIterable(acceptorDirections)) {
+            BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+            if (pos.equals(home)) {
                 continue;
             }
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), coord.getPos());
+            TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), pos);
             if (acceptor == null) {
                 continue;
             }
 
+            byte sides = entry.getByteValue();
             AcceptorData data = null;
-            for (Direction side : sides) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (!hasSide(sides, side)) {
+                    continue;
+                }
                 Direction opposite = side.getOpposite();
                 TransitResponse response = TransporterManager.getPredictedInsert(acceptor, stack.color, request, opposite);
                 if (!response.isEmpty()) {
                     if (data == null) {
-                        toReturn.add(data = new AcceptorData(coord, response, opposite));
+                        toReturn.add(data = new AcceptorData(new Coord4D(pos, getWorld()), response, opposite));
                     } else {
                         data.sides.add(opposite);
                     }
@@ -72,6 +108,11 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        return !hasPendingUpdates();
+    }
+
     @Override
     public void absorbBuffer(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter) {
     }
@@ -87,7 +128,8 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public String toString() {
-        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + acceptorDirections.size() + " acceptors, " + pathCache.size() + " cached paths ("
+               + pathCache.getHits() + " hits, " + pathCache.getMisses() + " misses, " + pathCache.getEvictions() + " evictions).";
     }
 
     @Override
@@ -107,7 +149,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmitters.size(), acceptorDirections.size());
     }
 
     public static class AcceptorData {
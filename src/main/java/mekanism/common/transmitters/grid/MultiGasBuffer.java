@@ -0,0 +1,141 @@
+package mekanism.common.transmitters.grid;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import mekanism.api.gas.Gas;
+
+/**
+ * Amounts of several gas types, one slice per type kept in small parallel arrays. Used by {@link GasNetwork} to hold on to gases that ended up in it besides its main
+ * buffer, for example from a tube that still stored a different gas when it joined the network, instead of voiding them.
+ */
+public class MultiGasBuffer {
+
+    private Gas[] types = new Gas[2];
+    private int[] amounts = new int[2];
+    private int size;
+    private int total;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The combined amount of all the slices.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    @Nonnull
+    public Gas getType(int index) {
+        return types[index];
+    }
+
+    public int getAmount(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * @return The amount stored of the given type.
+     */
+    public int getAmount(@Nonnull Gas type) {
+        int index = indexOf(type);
+        return index == -1 ? 0 : amounts[index];
+    }
+
+    /**
+     * @return The index of the slice holding the given type, or {@code -1} if there is none.
+     */
+    public int indexOf(@Nonnull Gas type) {
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The index of the slice with the largest amount, or {@code -1} if this buffer is empty.
+     */
+    public int getLargest() {
+        int largest = -1;
+        for (int i = 0; i < size; i++) {
+            if (largest == -1 || amounts[i] > amounts[largest]) {
+                largest = i;
+            }
+        }
+        return largest;
+    }
+
+    public void add(@Nonnull Gas type, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        int index = indexOf(type);
+        if (index == -1) {
+            if (size == types.length) {
+                types = Arrays.copyOf(types, size * 2);
+                amounts = Arrays.copyOf(amounts, size * 2);
+            }
+            index = size++;
+            types[index] = type;
+        }
+        amounts[index] += amount;
+        total += amount;
+    }
+
+    public void addAll(@Nonnull MultiGasBuffer other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.types[i], other.amounts[i]);
+        }
+    }
+
+    /**
+     * Removes up to the given amount from the slice at the given index, removing the slice if it ends up empty.
+     */
+    public void shrink(int index, int amount) {
+        int removed = Math.min(amount, amounts[index]);
+        amounts[index] -= removed;
+        total -= removed;
+        if (amounts[index] == 0) {
+            remove(index);
+        }
+    }
+
+    public void shrink(@Nonnull Gas type, int amount) {
+        int index = indexOf(type);
+        if (index != -1) {
+            shrink(index, amount);
+        }
+    }
+
+    public void remove(int index) {
+        total -= amounts[index];
+        size--;
+        System.arraycopy(types, index + 1, types, index, size - index);
+        System.arraycopy(amounts, index + 1, amounts, index, size - index);
+        types[size] = null;
+        amounts[size] = 0;
+    }
+
+    /**
+     * Removes gas from the most recently added slices until the total is at most the given amount.
+     */
+    public void clampTotal(int max) {
+        while (total > max && size > 0) {
+            shrink(size - 1, total - Math.max(max, 0));
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(types, 0, size, null);
+        Arrays.fill(amounts, 0, size, 0);
+        size = 0;
+        total = 0;
+    }
+}
@@ -2,13 +2,16 @@ package mekanism.common.upgrade.transmitter;
 
 import mekanism.api.gas.GasStack;
 import mekanism.common.tile.transmitter.TileEntitySidedPipe.ConnectionType;
+import mekanism.common.transmitters.grid.MultiGasBuffer;
 
 public class PressurizedTubeUpgradeData extends TransmitterUpgradeData {
 
     public final GasStack contents;
+    public final MultiGasBuffer otherGases;
 
-    public PressurizedTubeUpgradeData(boolean redstoneReactive, ConnectionType[] connectionTypes, GasStack contents) {
+    public PressurizedTubeUpgradeData(boolean redstoneReactive, ConnectionType[] connectionTypes, GasStack contents, MultiGasBuffer otherGases) {
         super(redstoneReactive, connectionTypes);
         this.contents = contents;
+        this.otherGases = otherGases;
     }
 }
\ No newline at end of file
@@ -1,8 +1,6 @@
 package mekanism.common.util;
 
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.Set;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.api.energy.IStrictEnergyOutputter;
 import mekanism.api.transmitters.TransmissionType;
@@ -110,8 +108,6 @@ public final class CableUtils {
             double energyToSend = Math.min(emitter.getEnergy(), emitter.getMaxOutput());
             if (energyToSend > 0) {
                 BlockPos pos = tileEntity.getPos();
-                //Fake that we have one target given we know that no sides will overlap
-                // This allows us to have slightly better performance
                 EnergyAcceptorTarget target = new EnergyAcceptorTarget();
                 for (Direction side : EnumUtils.DIRECTIONS) {
                     if (emitter.canOutputEnergy(side)) {
@@ -127,11 +123,8 @@ public final class CableUtils {
                         }
                     }
                 }
-                int curHandlers = target.getHandlers().size();
-                if (curHandlers > 0) {
-                    Set<EnergyAcceptorTarget> targets = new HashSet<>();
-                    targets.add(target);
-                    double sent = EmitUtils.sendToAcceptors(targets, curHandlers, energyToSend);
+                if (!target.isEmpty()) {
+                    double sent = EmitUtils.sendToAcceptors(target, energyToSend);
                     if (emitter instanceof TileEntityInductionPort) {
                         //Streamline sideless removal method for induction port.
                         ((TileEntityInductionPort) emitter).removeEnergy(sent, false);
@@ -1,7 +1,6 @@
 package mekanism.common.util;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
@@ -109,8 +108,6 @@ public final class GasUtils {
             return 0;
         }
 
-        //Fake that we have one target given we know that no sides will overlap
-        // This allows us to have slightly better performance
         final GasHandlerTarget target = new GasHandlerTarget(stack);
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
 
@@ -125,12 +122,6 @@ public final class GasUtils {
             });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<GasHandlerTarget> targets = new HashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), stack);
-        }
-        return 0;
+        return EmitUtils.sendToAcceptors(target, stack.getAmount());
     }
 }
\ No newline at end of file
@@ -1,12 +1,9 @@
 package mekanism.common.util;
 
-import java.util.Map;
-import java.util.Map.Entry;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ISideConfiguration;
-import mekanism.common.content.transporter.HashedItem;
 import mekanism.common.content.transporter.InvStack;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
@@ -18,7 +15,6 @@ import net.minecraft.util.Direction;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
-import org.apache.commons.lang3.tuple.Pair;
 
 public final class InventoryUtils {
 
@@ -36,8 +32,8 @@ public final class InventoryUtils {
         if (force && tile instanceof TileEntityLogisticalSorter) {
             return ((TileEntityLogisticalSorter) tile).sendHome(request.getSingleStack());
         }
-        for (Entry<HashedItem, Pair<Integer, Map<Integer, Integer>>> requestEntry : request.getItemMap().entrySet()) {
-            ItemStack origInsert = StackUtils.size(requestEntry.getKey().getStack(), requestEntry.getValue().getLeft());
+        for (int index = 0; index < request.getTypeCount(); index++) {
+            ItemStack origInsert = StackUtils.size(request.getType(index).getStack(), request.getTotal(index));
             ItemStack toInsert = origInsert.copy();
             if (!isItemHandler(tile, side.getOpposite())) {
                 return TransitResponse.EMPTY;
@@ -51,12 +47,12 @@ public final class InventoryUtils {
 
                     // If empty, end
                     if (toInsert.isEmpty()) {
-                        return new TransitResponse(origInsert, requestEntry.getValue().getRight());
+                        return request.createResponse(index, origInsert);
                     }
                 }
             }
             if (TransporterManager.didEmit(origInsert, toInsert)) {
-                return new TransitResponse(TransporterManager.getToUse(origInsert, toInsert), requestEntry.getValue().getRight());
+                return request.createResponse(index, TransporterManager.getToUse(origInsert, toInsert));
             }
         }
         return TransitResponse.EMPTY;
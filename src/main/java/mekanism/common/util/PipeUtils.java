@@ -1,7 +1,6 @@
 package mekanism.common.util;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.common.base.target.FluidHandlerTarget;
@@ -52,8 +51,6 @@ public final class PipeUtils {
         if (stack.isEmpty()) {
             return 0;
         }
-        //Fake that we have one target given we know that no sides will overlap
-        // This allows us to have slightly better performance
         final FluidHandlerTarget target = new FluidHandlerTarget(stack);
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
 
@@ -68,13 +65,7 @@ public final class PipeUtils {
             });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<FluidHandlerTarget> targets = new HashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), stack);
-        }
-        return 0;
+        return EmitUtils.sendToAcceptors(target, stack.getAmount());
     }
 
     public static boolean canFill(IFluidHandler handler, @Nonnull FluidStack stack) {